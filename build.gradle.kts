@@ -30,6 +30,7 @@ plugins {
     `eclipse-wtp`
     alias(libs.plugins.gradle.dependency.graph.generator)
     alias(libs.plugins.gradle.dokka)
+    alias(libs.plugins.gradle.jmh)
     alias(libs.plugins.gradle.lombok)
     alias(libs.plugins.gradle.versions)
 }
@@ -78,6 +79,7 @@ dependencies {
     testImplementation(libs.assertj.core)
     testImplementation(libs.assertj.db)
     testImplementation(libs.commons.text)
+    testImplementation(libs.h2)
     testImplementation(libs.junit.jupiter.api)
     testImplementation(libs.mockito.inline)
     testImplementation(libs.mockito.junit.jupiter)
@@ -89,6 +91,10 @@ dependencies {
     testRuntimeOnly(libs.junit.jupiter.engine)
     testRuntimeOnly(libs.junit.platform.launcher)
 
+    // ベンチマーク時にのみ必要なライブラリ
+    jmhImplementation(libs.h2)
+    jmhImplementation(libs.jakarta.servlet.api)
+
     // Dokka の HTML 生成タスク実行時に必要なライブラリ
     // ※ Dokka で Java の書式でドキュメントを生成するためのライブラリ
     dokkaHtmlPlugin(libs.dokka.kotlin.java.plugin)
@@ -129,6 +135,13 @@ dokka {
     }
 }
 
+// JMH Plugin の設定
+jmh {
+    // スループットに加えて、操作ごとのヒープの割り当て量を計測
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
 // Eclipse Plugin の設定
 eclipse {
     // .project の設定
@@ -0,0 +1,97 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.bean.converter;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DateConverter#convertToType(Class, Object)} のベンチマークです。<br />
+ * 日付のみの文字列、タイムゾーン付きの日時の文字列、{@code java.time} の日時をそれぞれ変換します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateConverterBenchmark {
+    /**
+     * 日付のコンバータです。
+     */
+    private final DateConverter converter = new DateConverter();
+
+    /**
+     * 日付の文字列です。
+     */
+    private String date = "20240102";
+
+    /**
+     * タイムゾーン付きの日時の文字列です。
+     */
+    private String dateTime = "2024/01/02T03:04:05+09:00";
+
+    /**
+     * {@code java.time} の日時です。
+     */
+    private LocalDateTime localDateTime = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    /**
+     * 日付の文字列を変換します。
+     *
+     * @return 日付
+     * @throws Exception 変換に失敗した場合
+     */
+    @Benchmark
+    public Date convertDate() throws Exception {
+        return converter.convertToType(Date.class, date);
+    }
+
+    /**
+     * タイムゾーン付きの日時の文字列を変換します。
+     *
+     * @return 日付
+     * @throws Exception 変換に失敗した場合
+     */
+    @Benchmark
+    public Date convertDateTime() throws Exception {
+        return converter.convertToType(Date.class, dateTime);
+    }
+
+    /**
+     * {@code java.time} の日時を変換します。
+     *
+     * @return 日付
+     * @throws Exception 変換に失敗した場合
+     */
+    @Benchmark
+    public Date convertLocalDateTime() throws Exception {
+        return converter.convertToType(Date.class, localDateTime);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.bean.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.types.UByte;
+import org.jooq.types.UInteger;
+import org.jooq.types.ULong;
+import org.jooq.types.UShort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link UnsignedNumberConverter#convertToType(Class, Object)} のベンチマークです。<br />
+ * 符号なし整数の型ごとに、文字列と数値を変換します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnsignedNumberConverterBenchmark {
+    /**
+     * {@link UByte} 型のコンバータです。
+     */
+    private final UByteConverter uByteConverter = new UByteConverter();
+
+    /**
+     * {@link UShort} 型のコンバータです。
+     */
+    private final UShortConverter uShortConverter = new UShortConverter();
+
+    /**
+     * {@link UInteger} 型のコンバータです。
+     */
+    private final UIntegerConverter uIntegerConverter = new UIntegerConverter();
+
+    /**
+     * {@link ULong} 型のコンバータです。
+     */
+    private final ULongConverter uLongConverter = new ULongConverter();
+
+    /**
+     * 数値の文字列です。
+     */
+    private String stringValue = "123";
+
+    /**
+     * 数値です。
+     */
+    private Long numberValue = 123L;
+
+    /**
+     * 文字列を {@link UByte} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public UByte convertStringToUByte() throws Throwable {
+        return uByteConverter.convertToType(UByte.class, stringValue);
+    }
+
+    /**
+     * 文字列を {@link UShort} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public UShort convertStringToUShort() throws Throwable {
+        return uShortConverter.convertToType(UShort.class, stringValue);
+    }
+
+    /**
+     * 文字列を {@link UInteger} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public UInteger convertStringToUInteger() throws Throwable {
+        return uIntegerConverter.convertToType(UInteger.class, stringValue);
+    }
+
+    /**
+     * 文字列を {@link ULong} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public ULong convertStringToULong() throws Throwable {
+        return uLongConverter.convertToType(ULong.class, stringValue);
+    }
+
+    /**
+     * 数値を {@link UInteger} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public UInteger convertNumberToUInteger() throws Throwable {
+        return uIntegerConverter.convertToType(UInteger.class, numberValue);
+    }
+
+    /**
+     * 数値を {@link ULong} 型に変換します。
+     *
+     * @return 符号なし整数
+     * @throws Throwable 変換に失敗した場合
+     */
+    @Benchmark
+    public ULong convertNumberToULong() throws Throwable {
+        return uLongConverter.convertToType(ULong.class, numberValue);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.data.pagination;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Page#map(Function)} のベンチマークです。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageBenchmark {
+    /**
+     * ページの要素の数です。
+     */
+    @Param({ "20", "100", "1000" })
+    private int pageSize;
+
+    /**
+     * ページです。
+     */
+    private Page<Integer> page;
+
+    /**
+     * ベンチマークの準備をします。
+     */
+    @Setup
+    public void setUp() {
+        final List<Integer> elements = IntStream.range(0, pageSize).boxed().toList();
+
+        page = new Page<>(new PageRequest(1, pageSize), elements, pageSize * 10);
+    }
+
+    /**
+     * ページの要素を変換します。
+     *
+     * @return 変換したページ
+     */
+    @Benchmark
+    public IPage<String> map() {
+        return page.map(String::valueOf);
+    }
+}
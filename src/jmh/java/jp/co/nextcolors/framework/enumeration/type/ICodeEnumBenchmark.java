@@ -0,0 +1,180 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.enumeration.type;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ICodeEnum#codeOf(Class, Object)}、{@link ICodeEnum#codeOfInt(Class, int)}、{@link ICodeEnum#isValidCode(Class, Object)}、
+ * {@link ICodeEnum#getCodeClass(Class)} のベンチマークです。<br />
+ * 列挙型の先頭と末尾の列挙型定数のコード、および含まれていないコードで検索します。
+ * 整数のコードは、ボクシングする {@code codeOf} とボクシングしない {@code codeOfInt} を比較します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ICodeEnumBenchmark {
+    /**
+     * 先頭の列挙型定数のコードです。
+     */
+    private String firstCode = Prefecture.HOKKAIDO.getCode();
+
+    /**
+     * 末尾の列挙型定数のコードです。
+     */
+    private String lastCode = Prefecture.OKINAWA.getCode();
+
+    /**
+     * 含まれていないコードです。
+     */
+    private String invalidCode = "48";
+
+    /**
+     * 整数のコードです。
+     */
+    private int statusCode = HttpStatus.SERVICE_UNAVAILABLE.getCode();
+
+    /**
+     * 先頭の列挙型定数のコードで検索します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public Prefecture codeOfFirst() {
+        return ICodeEnum.codeOf(Prefecture.class, firstCode);
+    }
+
+    /**
+     * 末尾の列挙型定数のコードで検索します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public Prefecture codeOfLast() {
+        return ICodeEnum.codeOf(Prefecture.class, lastCode);
+    }
+
+    /**
+     * 整数のコードをボクシングして検索します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public HttpStatus codeOfBoxed() {
+        return ICodeEnum.codeOf(HttpStatus.class, statusCode);
+    }
+
+    /**
+     * 整数のコードをボクシングせずに検索します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public HttpStatus codeOfInt() {
+        return ICodeEnum.codeOfInt(HttpStatus.class, statusCode);
+    }
+
+    /**
+     * 含まれているコードかどうかを判定します。
+     *
+     * @return 含まれているコードの場合は {@code true}
+     */
+    @Benchmark
+    public boolean isValidCode() {
+        return ICodeEnum.isValidCode(Prefecture.class, lastCode);
+    }
+
+    /**
+     * 含まれていないコードかどうかを判定します。
+     *
+     * @return 含まれているコードの場合は {@code true}
+     */
+    @Benchmark
+    public boolean isInvalidCode() {
+        return ICodeEnum.isValidCode(Prefecture.class, invalidCode);
+    }
+
+    /**
+     * 列挙型のコードの型を取得します。
+     *
+     * @return 列挙型のコードの型を表すクラス
+     */
+    @Benchmark
+    public Class<String> getCodeClass() {
+        return ICodeEnum.getCodeClass(Prefecture.class);
+    }
+
+    /**
+     * 都道府県です（コードは JIS X 0401 の都道府県コードです）。
+     *
+     * @author hamana
+     */
+    @RequiredArgsConstructor
+    public enum Prefecture implements ICodeEnum<Prefecture, String> {
+        HOKKAIDO("01"), AOMORI("02"), IWATE("03"), MIYAGI("04"), AKITA("05"), YAMAGATA("06"), FUKUSHIMA("07"),
+        IBARAKI("08"), TOCHIGI("09"), GUNMA("10"), SAITAMA("11"), CHIBA("12"), TOKYO("13"), KANAGAWA("14"),
+        NIIGATA("15"), TOYAMA("16"), ISHIKAWA("17"), FUKUI("18"), YAMANASHI("19"), NAGANO("20"), GIFU("21"),
+        SHIZUOKA("22"), AICHI("23"), MIE("24"), SHIGA("25"), KYOTO("26"), OSAKA("27"), HYOGO("28"),
+        NARA("29"), WAKAYAMA("30"), TOTTORI("31"), SHIMANE("32"), OKAYAMA("33"), HIROSHIMA("34"), YAMAGUCHI("35"),
+        TOKUSHIMA("36"), KAGAWA("37"), EHIME("38"), KOCHI("39"), FUKUOKA("40"), SAGA("41"), NAGASAKI("42"),
+        KUMAMOTO("43"), OITA("44"), MIYAZAKI("45"), KAGOSHIMA("46"), OKINAWA("47");
+
+        /**
+         * コードです。
+         */
+        @Getter
+        @NonNull
+        private final String code;
+    }
+
+    /**
+     * HTTP のステータスです（コードの範囲が広く、整数のハッシュ表で検索します）。
+     *
+     * @author hamana
+     */
+    @RequiredArgsConstructor
+    public enum HttpStatus implements ICodeEnum<HttpStatus, Integer> {
+        OK(200), CREATED(201), NO_CONTENT(204), MOVED_PERMANENTLY(301), FOUND(302), NOT_MODIFIED(304),
+        BAD_REQUEST(400), UNAUTHORIZED(401), FORBIDDEN(403), NOT_FOUND(404), CONFLICT(409),
+        INTERNAL_SERVER_ERROR(500), SERVICE_UNAVAILABLE(503);
+
+        /**
+         * コードです。
+         */
+        @Getter
+        @NonNull
+        private final Integer code;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.filter;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.nextcolors.framework.filter.util.RequestDumpUtil;
+
+/**
+ * {@link RequestDumpFilter#doFilter(jakarta.servlet.ServletRequest, ServletResponse, FilterChain)} のベンチマークです。<br />
+ * ベンチマークにはロガーの実装を含めないため、{@code doFilter} はダンプが無効な場合の処理を計測します。
+ * ダンプが有効な場合の処理は、{@code dump} で {@link RequestDumpUtil} を直接呼び出して計測します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestDumpFilterBenchmark {
+    /**
+     * ダンプする際のインデントです。
+     */
+    private static final String INDENT = "  ";
+
+    /**
+     * ダンプする際の改行文字です。
+     */
+    private static final String LF = System.lineSeparator();
+
+    /**
+     * リクエストの内容をダンプするフィルタです。
+     */
+    private final RequestDumpFilter filter = new RequestDumpFilter();
+
+    /**
+     * 何もしないフィルタチェーンです。
+     */
+    private final FilterChain chain = (request, response) -> {
+        // Do nothing.
+    };
+
+    /**
+     * リクエストです。
+     */
+    private HttpServletRequest request;
+
+    /**
+     * レスポンスです。
+     */
+    private ServletResponse response;
+
+    /**
+     * ベンチマークの準備をします。
+     */
+    @Setup
+    public void setUp() {
+        request = createRequest();
+        response = (ServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ServletResponse.class }, (proxy, method, args) -> null);
+    }
+
+    /**
+     * フィルタを実行します。
+     *
+     * @throws IOException      入出力エラーが発生した場合
+     * @throws ServletException サーブレットの処理でエラーが発生した場合
+     */
+    @Benchmark
+    public void doFilter() throws IOException, ServletException {
+        filter.doFilter(request, response, chain);
+    }
+
+    /**
+     * リクエストの内容をダンプします。
+     *
+     * @return ダンプした内容
+     */
+    @Benchmark
+    public String dump() {
+        final StringBuilder builder = new StringBuilder();
+
+        RequestDumpUtil.dumpRequestProperties(builder, request, LF, INDENT);
+        RequestDumpUtil.dumpSessionProperties(builder, request, LF, INDENT);
+        RequestDumpUtil.dumpRequestHeaders(builder, request, LF, INDENT);
+        RequestDumpUtil.dumpRequestParameters(builder, request, LF, INDENT);
+        RequestDumpUtil.dumpCookies(builder, request, LF, INDENT);
+
+        return builder.toString();
+    }
+
+    /**
+     * 一般的なブラウザからの GET リクエストを模したリクエストを生成します。
+     *
+     * @return リクエスト
+     */
+    private static HttpServletRequest createRequest() {
+        final Map<String, String> headers = Map.of(
+                "Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8",
+                "Accept-Encoding", "gzip, deflate, br",
+                "Accept-Language", "ja,en-US;q=0.7,en;q=0.3",
+                "Host", "localhost:8080",
+                "User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:128.0) Gecko/20100101 Firefox/128.0"
+        );
+
+        final Map<String, String[]> parameters = Map.of(
+                "page", new String[] { "1" },
+                "size", new String[] { "20" },
+                "sort", new String[] { "name,asc", "id,desc" }
+        );
+
+        final Cookie[] cookies = { new Cookie("JSESSIONID", "0123456789ABCDEF"), new Cookie("theme", "dark") };
+
+        return (HttpServletRequest) Proxy.newProxyInstance(RequestDumpFilterBenchmark.class.getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeaderNames" -> Collections.enumeration(headers.keySet());
+                    case "getHeader" -> headers.get((String) args[0]);
+                    case "getParameterNames" -> Collections.enumeration(parameters.keySet());
+                    case "getParameterValues" -> parameters.get((String) args[0]);
+                    case "getCookies" -> cookies;
+                    case "getLocale" -> Locale.JAPAN;
+                    case "getLocales" -> Collections.enumeration(List.of(Locale.JAPAN, Locale.US));
+                    case "getRequestURI" -> "/app/users";
+                    case "getServletPath" -> "/users";
+                    case "getContextPath" -> "/app";
+                    case "getMethod" -> "GET";
+                    case "getQueryString" -> "page=1&size=20&sort=name,asc&sort=id,desc";
+                    case "getProtocol" -> "HTTP/1.1";
+                    case "getScheme" -> "http";
+                    case "getServerName", "getRemoteHost" -> "localhost";
+                    case "getRemoteAddr" -> "127.0.0.1";
+                    case "getCharacterEncoding" -> "UTF-8";
+                    case "getServerPort" -> 8080;
+                    case "getContentLength" -> -1;
+                    case "isSecure" -> false;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkHttpServletRequest";
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.converter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import jp.co.nextcolors.framework.enumeration.type.ICodeEnum;
+
+/**
+ * {@link CodeEnumConverter#from(Object)} と {@link CodeEnumConverter#to(Enum)} のベンチマークです。<br />
+ * DB のデータ型とコードの型が一致する場合と、異なる場合（{@link Long} と {@link Integer}）を比較します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeEnumConverterBenchmark {
+    /**
+     * DB のデータ型とコードの型が一致するコンバータです。
+     */
+    private final StatusIntegerConverter integerConverter = new StatusIntegerConverter();
+
+    /**
+     * DB のデータ型とコードの型が異なるコンバータです。
+     */
+    private final StatusLongConverter longConverter = new StatusLongConverter();
+
+    /**
+     * DB のデータ型に準拠した値（{@link Integer}）です。
+     */
+    private Integer integerValue = Status.DELETED.getCode();
+
+    /**
+     * DB のデータ型に準拠した値（{@link Long}）です。
+     */
+    private Long longValue = Status.DELETED.getCode().longValue();
+
+    /**
+     * 列挙型定数です。
+     */
+    private Status status = Status.DELETED;
+
+    /**
+     * 型が一致する値を列挙型定数に変換します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public Status fromInteger() {
+        return integerConverter.from(integerValue);
+    }
+
+    /**
+     * 型が異なる値を列挙型定数に変換します。
+     *
+     * @return 列挙型定数
+     */
+    @Benchmark
+    public Status fromLong() {
+        return longConverter.from(longValue);
+    }
+
+    /**
+     * 列挙型定数を型が一致する値に変換します。
+     *
+     * @return DB のデータ型に準拠した値
+     */
+    @Benchmark
+    public Integer toInteger() {
+        return integerConverter.to(status);
+    }
+
+    /**
+     * 列挙型定数を型が異なる値に変換します。
+     *
+     * @return DB のデータ型に準拠した値
+     */
+    @Benchmark
+    public Long toLong() {
+        return longConverter.to(status);
+    }
+
+    /**
+     * 状態です。
+     *
+     * @author hamana
+     */
+    @RequiredArgsConstructor
+    public enum Status implements ICodeEnum<Status, Integer> {
+        ACTIVE(1), SUSPENDED(2), DELETED(9);
+
+        /**
+         * コードです。
+         */
+        @Getter
+        @NonNull
+        private final Integer code;
+    }
+
+    /**
+     * DB のデータ型が {@link Integer} のコンバータです。
+     *
+     * @author hamana
+     */
+    @SuppressWarnings("serial")
+    public static class StatusIntegerConverter extends CodeEnumConverter<Status, Integer, Integer> {
+    }
+
+    /**
+     * DB のデータ型が {@link Long} のコンバータです。
+     *
+     * @author hamana
+     */
+    @SuppressWarnings("serial")
+    public static class StatusLongConverter extends CodeEnumConverter<Status, Integer, Long> {
+    }
+}
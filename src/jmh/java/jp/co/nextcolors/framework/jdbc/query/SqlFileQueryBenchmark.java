@@ -0,0 +1,167 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.context.ExecutionContext;
+
+/**
+ * {@link SqlFileQuery#createBindParameters()} と {@link SqlFileQuery#createExecutionContext()} のベンチマークです。<br />
+ * gc プロファイラの {@code gc.alloc.rate.norm} で、1 回の問い合わせあたりのヒープの割り当て量を比較します。
+ * {@code baseline} は、パラメータをすべてコピーしていた以前の実装です。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlFileQueryBenchmark {
+    /**
+     * IN 句にバインドするパラメータの要素の数です（0 の場合はスカラー値のパラメータのみ）。
+     */
+    @Param({ "0", "10", "100" })
+    private int inListSize;
+
+    /**
+     * SQL ファイルのパスです。
+     */
+    private Path sqlFilePath;
+
+    /**
+     * SQL ファイルを使用した検索です。
+     */
+    private SqlFileSelect sqlFileSelect;
+
+    /**
+     * ベンチマークの準備をします。
+     *
+     * @throws IOException SQL ファイルの書き込みに失敗した場合
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sql-file-query;DB_CLOSE_DELAY=-1");
+
+        sqlFilePath = Files.writeString(Files.createTempFile("select", ".sql"), """
+                SELECT
+                    *
+                FROM
+                    user_account
+                WHERE
+                    name = /*name*/'foo'
+                    AND age >= /*age*/0
+                    AND created_at < /*createdAt*/CURRENT_TIMESTAMP
+                /*IF ids != null*/
+                    AND id IN (/*ids*/1)
+                /*END*/
+                """);
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("name", "foo");
+        params.put("age", 20);
+        params.put("createdAt", LocalDateTime.now());
+
+        if (inListSize > 0) {
+            params.put("ids", IntStream.range(0, inListSize).boxed().toList());
+        }
+
+        sqlFileSelect = new SqlFileSelect(DSL.using(dataSource, SQLDialect.H2), sqlFilePath, params);
+    }
+
+    /**
+     * ベンチマークの後始末をします。
+     *
+     * @throws IOException SQL ファイルの削除に失敗した場合
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sqlFilePath);
+    }
+
+    /**
+     * 現在の実装で SQL にバインドするパラメータを生成します。
+     *
+     * @return SQL にバインドするパラメータ
+     */
+    @Benchmark
+    public Map<String, Object> createBindParameters() {
+        return sqlFileSelect.createBindParameters();
+    }
+
+    /**
+     * SQL の実行コンテキストを生成します。
+     *
+     * @return SQL の実行コンテキスト
+     */
+    @Benchmark
+    public ExecutionContext createExecutionContext() {
+        return sqlFileSelect.createExecutionContext();
+    }
+
+    /**
+     * 以前の実装で SQL にバインドするパラメータを生成します。
+     *
+     * @return SQL にバインドするパラメータ
+     */
+    @Benchmark
+    public Map<String, Object> baseline() {
+        final Map<String, Object> bindParams = new HashMap<>();
+
+        sqlFileSelect.params.forEach((key, value) -> {
+            if (value instanceof Collection<?> collection) {
+                value = collection.toArray();
+            }
+
+            if (value instanceof Object[] array) {
+                value = DSL.list(Stream.of(array).map(DSL::val).toList());
+            }
+
+            bindParams.put(key, value);
+        });
+
+        return Collections.unmodifiableMap(bindParams);
+    }
+}
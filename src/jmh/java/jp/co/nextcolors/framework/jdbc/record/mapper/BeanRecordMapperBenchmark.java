@@ -0,0 +1,199 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.record.mapper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@link BeanRecordMapper#map(Record)} のベンチマークです。<br />
+ * インメモリの H2 データベースから検索した 100 件のレコードを、Bean とレコードクラスにそれぞれ変換します。
+ *
+ * @author hamana
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanRecordMapperBenchmark {
+    /**
+     * 検索するレコードの件数です。
+     */
+    private static final int RECORD_COUNT = 100;
+
+    /**
+     * データベースのコネクションです。
+     */
+    private Connection connection;
+
+    /**
+     * 検索結果です。
+     */
+    private Result<Record> result;
+
+    /**
+     * Bean に変換する {@link BeanRecordMapper} です。
+     */
+    private BeanRecordMapper<Record, UserAccountBean> beanMapper;
+
+    /**
+     * レコードクラスに変換する {@link BeanRecordMapper} です。
+     */
+    private BeanRecordMapper<Record, UserAccountRecord> recordMapper;
+
+    /**
+     * ベンチマークの準備をします。
+     *
+     * @throws SQLException データベースへの接続に失敗した場合
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bean-record-mapper;DB_CLOSE_DELAY=-1");
+
+        connection = dataSource.getConnection();
+
+        final DSLContext dslContext = DSL.using(connection, SQLDialect.H2);
+
+        dslContext.execute("""
+                CREATE TABLE IF NOT EXISTS user_account (
+                    id INTEGER PRIMARY KEY,
+                    user_name VARCHAR(100),
+                    email VARCHAR(255),
+                    age INTEGER,
+                    created_at TIMESTAMP
+                )
+                """);
+        dslContext.execute("DELETE FROM user_account");
+
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            dslContext.execute("INSERT INTO user_account VALUES (?, ?, ?, ?, ?)",
+                    i, "user" + i, "user" + i + "@example.com", 20 + i % 50, LocalDateTime.now());
+        }
+
+        result = dslContext.resultQuery("SELECT * FROM user_account ORDER BY id").fetch();
+
+        beanMapper = new BeanRecordMapper<>(UserAccountBean.class, dslContext.configuration());
+        recordMapper = new BeanRecordMapper<>(UserAccountRecord.class, dslContext.configuration());
+    }
+
+    /**
+     * ベンチマークの後始末をします。
+     *
+     * @throws SQLException データベースの切断に失敗した場合
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * レコードを Bean に変換します。
+     *
+     * @param blackhole 変換結果を消費する {@link Blackhole}
+     */
+    @Benchmark
+    public void mapBean(final Blackhole blackhole) {
+        for (final Record record : result) {
+            blackhole.consume(beanMapper.map(record));
+        }
+    }
+
+    /**
+     * レコードをレコードクラスに変換します。
+     *
+     * @param blackhole 変換結果を消費する {@link Blackhole}
+     */
+    @Benchmark
+    public void mapRecord(final Blackhole blackhole) {
+        for (final Record record : result) {
+            blackhole.consume(recordMapper.map(record));
+        }
+    }
+
+    /**
+     * ユーザアカウントの Bean です。
+     *
+     * @author hamana
+     */
+    @Getter
+    @Setter
+    public static class UserAccountBean {
+        /**
+         * ID です。
+         */
+        private Integer id;
+
+        /**
+         * ユーザ名です。
+         */
+        private String userName;
+
+        /**
+         * メールアドレスです。
+         */
+        private String email;
+
+        /**
+         * 年齢です。
+         */
+        private Integer age;
+
+        /**
+         * 作成日時です。
+         */
+        private LocalDateTime createdAt;
+    }
+
+    /**
+     * ユーザアカウントのレコードクラスです。
+     *
+     * @param id        ID
+     * @param userName  ユーザ名
+     * @param email     メールアドレス
+     * @param age       年齢
+     * @param createdAt 作成日時
+     * @author hamana
+     */
+    public record UserAccountRecord(Integer id, String userName, String email, Integer age, LocalDateTime createdAt) {
+    }
+}
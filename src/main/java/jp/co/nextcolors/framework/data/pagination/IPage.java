@@ -60,6 +60,17 @@ public interface IPage<T> {
      */
     int getTotalElements();
 
+    /**
+     * 要素の総数が正確であるかどうかを判定します。<br />
+     * 要素の総数がキャッシュした値や見積もった値の場合、{@link #getTotalPages()} や {@link #hasNext()} も正確ではない場合があります。<br />
+     * デフォルトでは要素の総数は正確であるとみなします。
+     *
+     * @return 要素の総数が正確である場合は {@code true}、そうではない場合は {@code false}
+     */
+    default boolean isTotalExact() {
+        return true;
+    }
+
     /**
      * ページに含まれる要素を取得します。
      *
@@ -50,14 +50,35 @@ public class Page<T> implements IPage<T> {
     private final int totalElements;
 
     /**
+     * 要素の総数が正確であるかどうかです。
+     */
+    private final boolean totalExact;
+
+    /**
+     * 要素の総数が正確であるページを生成します。
+     *
      * @param pageRequest   ページ付けの情報
      * @param elements      ページに含まれる要素
      * @param totalElements 要素の総数
      */
     public Page(@NonNull final IPageRequest pageRequest, @NonNull final List<T> elements, final int totalElements) {
+        this(pageRequest, elements, totalElements, true);
+    }
+
+    /**
+     * @param pageRequest   ページ付けの情報
+     * @param elements      ページに含まれる要素
+     * @param totalElements 要素の総数
+     * @param totalExact    要素の総数が正確である場合は {@code true}、キャッシュした値や見積もった値の場合は {@code false}
+     */
+    public Page(@NonNull final IPageRequest pageRequest,
+                @NonNull final List<T> elements,
+                final int totalElements,
+                final boolean totalExact) {
         this.pageRequest = pageRequest;
         this.elements = List.copyOf(elements);
         this.totalElements = totalElements;
+        this.totalExact = totalExact;
     }
 
     /**
@@ -163,6 +184,6 @@ public class Page<T> implements IPage<T> {
     public <R> IPage<R> map(@NonNull final Function<? super T, ? extends R> mapper) {
         final List<R> elements = this.elements.stream().map(mapper).collect(Collectors.toUnmodifiableList());
 
-        return new Page<>(pageRequest, elements, totalElements);
+        return new Page<>(pageRequest, elements, totalElements, totalExact);
     }
 }
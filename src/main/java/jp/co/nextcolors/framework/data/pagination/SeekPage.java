@@ -0,0 +1,208 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.data.pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * キーセット（シーク）方式でページング検索したページです。<br />
+ * ページ付けの情報は {@link SeekPageRequest} のため、オフセット方式の {@link IPage} とは別の型です。<br />
+ * シーク方式では要素の総数を数えないため、{@link #getTotalElements()} はこのページまでの要素の数
+ * （次のページが存在する場合はさらに 1 を加えた数）を返し、要素の総数は最後のページでのみ正確です。
+ *
+ * @param <T> ページに含まれる要素の型です。
+ * @author hamana
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class SeekPage<T> {
+    /**
+     * ページ付けの情報です。
+     */
+    private final SeekPageRequest pageRequest;
+
+    /**
+     * ページに含まれる要素です。
+     */
+    private final List<T> elements;
+
+    /**
+     * 次のページのページ付けの情報です。<br />
+     * 次のページが存在しない場合は {@code null} です。
+     */
+    @Getter(AccessLevel.NONE)
+    private final SeekPageRequest nextPageRequest;
+
+    /**
+     * @param pageRequest     ページ付けの情報
+     * @param elements        ページに含まれる要素
+     * @param nextPageRequest 次のページのページ付けの情報（次のページが存在しない場合は {@code null}）
+     */
+    public SeekPage(@NonNull final SeekPageRequest pageRequest,
+                    @NonNull final List<T> elements,
+                    final SeekPageRequest nextPageRequest) {
+        this.pageRequest = pageRequest;
+        this.elements = List.copyOf(elements);
+        this.nextPageRequest = nextPageRequest;
+    }
+
+    /**
+     * ページ番号を取得します。
+     *
+     * @return ページ番号
+     */
+    public int getNumber() {
+        return pageRequest.getPageNumber();
+    }
+
+    /**
+     * ページに含まれる要素の最大数を取得します。
+     *
+     * @return ページに含める要素の最大数
+     */
+    public int getSize() {
+        return pageRequest.getPageSize();
+    }
+
+    /**
+     * ページに含まれる要素の数を取得します。
+     *
+     * @return ページに含まれる要素の数
+     */
+    public int getNumberOfElements() {
+        return elements.size();
+    }
+
+    /**
+     * このページまでのページの数（次のページが存在する場合はさらに 1 を加えた数）を取得します。
+     *
+     * @return ページの総数
+     */
+    public int getTotalPages() {
+        return hasNext() ? getNumber() + 1 : getNumber();
+    }
+
+    /**
+     * このページまでの要素の数（次のページが存在する場合はさらに 1 を加えた数）を取得します。
+     *
+     * @return 要素の総数
+     */
+    public int getTotalElements() {
+        return (getNumber() - 1) * getSize() + elements.size() + (hasNext() ? 1 : 0);
+    }
+
+    /**
+     * 要素の総数が正確であるかどうかを判定します。<br />
+     * 要素の総数は最後のページでのみ正確です。
+     *
+     * @return 要素の総数が正確である場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean isTotalExact() {
+        return !hasNext();
+    }
+
+    /**
+     * ページに要素が含まれているかどうかを判定します。
+     *
+     * @return ページに要素が含まれている場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean hasElements() {
+        return !elements.isEmpty();
+    }
+
+    /**
+     * 最初のページであるかどうかを判定します。
+     *
+     * @return 最初のページである場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean isFirst() {
+        return !hasPrevious();
+    }
+
+    /**
+     * 最後のページであるかどうかを判定します。
+     *
+     * @return 最後のページである場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    /**
+     * 前のページが存在するかどうかを判定します。
+     *
+     * @return 前のページが存在する場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean hasPrevious() {
+        return pageRequest.hasPrevious();
+    }
+
+    /**
+     * 次のページが存在するかどうかを判定します。
+     *
+     * @return 次のページが存在する場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean hasNext() {
+        return Objects.nonNull(nextPageRequest);
+    }
+
+    /**
+     * 前のページのページ付けの情報を取得します。<br />
+     * 前のページが存在しない場合は、このページのページ付けの情報を返します。
+     *
+     * @return 前のページのページ付けの情報
+     */
+    public SeekPageRequest getPreviousPageRequest() {
+        return pageRequest.previous();
+    }
+
+    /**
+     * 次のページのページ付けの情報を取得します。<br />
+     * 次のページが存在しない場合は、このページのページ付けの情報を返します。
+     *
+     * @return 次のページのページ付けの情報
+     */
+    public SeekPageRequest getNextPageRequest() {
+        if (hasNext()) {
+            return nextPageRequest;
+        }
+
+        return pageRequest;
+    }
+
+    /**
+     * ページに含まれる要素に指定された関数を適用した結果から構成されるページを取得します。
+     *
+     * @param <R>    ページに含まれる要素に指定された関数を適用した結果の型
+     * @param mapper ページに含まれる要素に適用する関数
+     * @return ページに含まれる要素に指定された関数を適用した結果から構成されるページ
+     */
+    public <R> SeekPage<R> map(@NonNull final Function<? super T, ? extends R> mapper) {
+        final List<R> elements = this.elements.stream().map(mapper).collect(Collectors.toUnmodifiableList());
+
+        return new SeekPage<>(pageRequest, elements, nextPageRequest);
+    }
+}
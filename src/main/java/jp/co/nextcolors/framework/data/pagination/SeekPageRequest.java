@@ -0,0 +1,134 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.data.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * キーセット（シーク）方式のページ付けの情報です。<br />
+ * 読み飛ばす要素の数（オフセット）ではなく、前のページの最後の要素のソートキーの値（シーク値）で次のページの開始位置を指定します。
+ * 読み飛ばす要素を走査しないため、ページの深さによらず一定の時間で検索できます。<br />
+ * 次のページはシーク値がなければ指定できないため、オフセット方式の {@link IPageRequest} とは別の型です。
+ * 次のページのページ付けの情報は、検索結果の {@link SeekPage#getNextPageRequest()} から取得してください。
+ *
+ * @author hamana
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public class SeekPageRequest {
+    /**
+     * ページ番号です。
+     */
+    private final int pageNumber;
+
+    /**
+     * ページに含める要素の最大数です。
+     */
+    private final int pageSize;
+
+    /**
+     * 前のページの最後の要素のソートキーの値です。<br />
+     * 最初のページの場合は空です。
+     */
+    @NonNull
+    private final List<Object> seekValues;
+
+    /**
+     * 前のページのページ付けの情報です。
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final SeekPageRequest previous;
+
+    /**
+     * 最初のページのページ付けの情報を生成します。
+     *
+     * @param pageSize ページに含める要素の最大数
+     * @return 最初のページのページ付けの情報
+     */
+    public static SeekPageRequest of(final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("ページに含める要素の最大数が 1 未満です。");
+        }
+
+        return new SeekPageRequest(1, pageSize, Collections.emptyList(), null);
+    }
+
+    /**
+     * 最初のページのページ付けの情報を取得します。
+     *
+     * @return 最初のページのページ付けの情報
+     */
+    public SeekPageRequest first() {
+        SeekPageRequest first = this;
+
+        while (first.hasPrevious()) {
+            first = first.previous;
+        }
+
+        return first;
+    }
+
+    /**
+     * 前のページのページ付けの情報を取得します。<br />
+     * 前のページが存在しない場合は、このページのページ付けの情報を返します。
+     *
+     * @return 前のページのページ付けの情報
+     */
+    public SeekPageRequest previous() {
+        if (hasPrevious()) {
+            return previous;
+        }
+
+        return this;
+    }
+
+    /**
+     * 次のページのページ付けの情報を生成します。
+     *
+     * @param seekValues このページの最後の要素のソートキーの値
+     * @return 次のページのページ付けの情報
+     */
+    public SeekPageRequest next(@NonNull final List<?> seekValues) {
+        if (seekValues.isEmpty()) {
+            throw new IllegalArgumentException("シーク値が空です。");
+        }
+
+        return new SeekPageRequest(pageNumber + 1, pageSize, Collections.unmodifiableList(new ArrayList<>(seekValues)), this);
+    }
+
+    /**
+     * 前のページが存在するかどうかを判定します。
+     *
+     * @return 前のページが存在する場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean hasPrevious() {
+        return Objects.nonNull(previous);
+    }
+}
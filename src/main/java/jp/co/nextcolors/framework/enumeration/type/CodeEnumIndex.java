@@ -0,0 +1,164 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.enumeration.type;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 列挙型ごとのコードから列挙型定数への索引です。<br />
+ * 索引は列挙型ごとに一度だけ生成して {@link ClassValue} に保持するため、コードによる検索は列挙型定数の数によらず一定の時間で行えます。
+ * 列挙型のコードの型も索引の生成時に一度だけ解決します。<br />
+ * コードが {@link Integer} または {@link Long} の場合は、コードをボクシングせずに検索できる {@link LongCodeTable} も生成します。
+ * 同じコードを持つ列挙型定数が複数ある場合は、先に宣言された列挙型定数を使用します。
+ *
+ * @param <E> 列挙型の型です。
+ * @param <C> 列挙型のコードの型です。
+ * @author hamana
+ */
+@ToString
+final class CodeEnumIndex<E extends Enum<E> & ICodeEnum<E, C>, C> {
+    /**
+     * 列挙型ごとの索引です。
+     */
+    private static final ClassValue<CodeEnumIndex<?, ?>> INDEXES = new ClassValue<>() {
+        @Override
+        protected CodeEnumIndex<?, ?> computeValue(final Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * コードから列挙型定数への対応です。
+     */
+    private final Map<C, E> constants;
+
+    /**
+     * すべてのコードです（列挙型定数の宣言順）。
+     */
+    @Getter
+    private final Set<C> codes;
+
+    /**
+     * 列挙型のコードの型を表すクラスです。
+     */
+    @Getter
+    private final Class<C> codeClass;
+
+    /**
+     * 整数のコードから列挙型定数への表です（コードが整数ではない場合は {@code null}）。
+     */
+    @ToString.Exclude
+    private final LongCodeTable<E> longCodes;
+
+    /**
+     * @param constants コードから列挙型定数への対応（列挙型定数の宣言順）
+     * @param codeClass 列挙型のコードの型を表すクラス
+     */
+    private CodeEnumIndex(final Map<C, E> constants, final Class<C> codeClass) {
+        this.codeClass = codeClass;
+        this.constants = Map.copyOf(constants);
+        codes = Collections.unmodifiableSequencedSet(new LinkedHashSet<>(constants.keySet()));
+
+        final boolean integral = constants.keySet().stream().allMatch(code -> code instanceof Integer || code instanceof Long);
+
+        @SuppressWarnings("unchecked")
+        final Map<? extends Number, E> longConstants = (Map<? extends Number, E>) constants;
+
+        longCodes = integral ? LongCodeTable.of(longConstants) : null;
+    }
+
+    /**
+     * 指定した列挙型の索引を返します。
+     *
+     * @param <E>       列挙型の型
+     * @param <C>       列挙型のコードの型
+     * @param enumClass 列挙型の型を表すクラス
+     * @return 列挙型の索引
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E> & ICodeEnum<E, C>, C> CodeEnumIndex<E, C> of(@NonNull final Class<E> enumClass) {
+        return (CodeEnumIndex<E, C>) INDEXES.get(enumClass);
+    }
+
+    /**
+     * 指定した列挙型の索引を生成します。
+     *
+     * @param <E>       列挙型の型
+     * @param <C>       列挙型のコードの型
+     * @param enumClass 列挙型の型を表すクラス
+     * @return 列挙型の索引
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E> & ICodeEnum<E, C>, C> CodeEnumIndex<E, C> create(final Class<?> enumClass) {
+        final Map<C, E> constants = new LinkedHashMap<>();
+
+        for (final Object constant : enumClass.getEnumConstants()) {
+            final E codeEnum = (E) constant;
+            final C code = codeEnum.getCode();
+
+            if (Objects.nonNull(code)) {
+                constants.putIfAbsent(code, codeEnum);
+            }
+        }
+
+        final GenericsContext context = GenericsResolver.resolve(enumClass).type(ICodeEnum.class);
+
+        return new CodeEnumIndex<>(constants, (Class<C>) context.generic(1));
+    }
+
+    /**
+     * 指定したコードを持つ列挙型定数を返します。
+     *
+     * @param code コード
+     * @return 列挙型定数（指定したコードを持つ列挙型定数がない場合は {@code null}）
+     */
+    E get(@NonNull final Object code) {
+        return constants.get(code);
+    }
+
+    /**
+     * 指定した整数のコードを持つ列挙型定数を返します。<br />
+     * コードが {@link Integer} または {@link Long} ではない列挙型の場合は、常に {@code null} を返します。
+     *
+     * @param code コード
+     * @return 列挙型定数（指定したコードを持つ列挙型定数がない場合は {@code null}）
+     */
+    E get(final long code) {
+        return Objects.nonNull(longCodes) ? longCodes.get(code) : null;
+    }
+
+    /**
+     * 指定したコードを持つ列挙型定数が存在するかどうかを判定します。
+     *
+     * @param code コード
+     * @return 指定したコードを持つ列挙型定数が存在する場合は {@code true}、そうではない場合は {@code false}
+     */
+    boolean contains(final Object code) {
+        return Objects.nonNull(code) && constants.containsKey(code);
+    }
+}
@@ -15,13 +15,8 @@
  */
 package jp.co.nextcolors.framework.enumeration.type;
 
-import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-
-import ru.vyarus.java.generics.resolver.GenericsResolver;
-import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
 import lombok.NonNull;
 
@@ -36,6 +31,7 @@ public interface ICodeEnum<E extends Enum<E> & ICodeEnum<E, C>, C> {
     /**
      * 指定したコードを持つ指定した列挙型の列挙型定数を返します。<br />
      * 指定したコードが {@code null} の場合は、{@code null} を返します。
+     * 列挙型定数は列挙型ごとに一度だけ生成する索引から検索します。
      *
      * @param <E>       列挙型の型
      * @param <C>       列挙型のコードの型
@@ -50,13 +46,66 @@ public interface ICodeEnum<E extends Enum<E> & ICodeEnum<E, C>, C> {
             return null;
         }
 
-        return EnumSet.allOf(enumClass).stream()
-                .filter(constant -> Objects.equals(constant.getCode(), code))
-                .findFirst()
-                .orElseThrow(() ->
-                        new IllegalArgumentException("%s のコード %s に %s は含まれていません。"
-                                .formatted(enumClass.getName(), codes(enumClass), code))
-                );
+        final CodeEnumIndex<E, C> index = CodeEnumIndex.of(enumClass);
+
+        final E constant = index.get(code);
+
+        if (Objects.isNull(constant)) {
+            throw new IllegalArgumentException("%s のコード %s に %s は含まれていません。"
+                    .formatted(enumClass.getName(), index.getCodes(), code));
+        }
+
+        return constant;
+    }
+
+    /**
+     * 指定した {@code int} のコードを持つ指定した列挙型の列挙型定数を返します。<br />
+     * コードが {@link Integer} の列挙型を対象とし、コードをボクシングせずに検索します。
+     * 列挙型定数はコードの範囲が狭い場合は配列、そうではない場合は整数のハッシュ表から検索します。
+     *
+     * @param <E>       列挙型の型
+     * @param enumClass 列挙型の型を表すクラス
+     * @param code      コード
+     * @return 列挙型定数
+     * @throws IllegalArgumentException 指定した列挙型に指定したコードの列挙型定数がない場合
+     */
+    static <E extends Enum<E> & ICodeEnum<E, Integer>> E codeOfInt(@NonNull final Class<E> enumClass, final int code)
+            throws IllegalArgumentException {
+        final CodeEnumIndex<E, Integer> index = CodeEnumIndex.of(enumClass);
+
+        final E constant = index.get((long) code);
+
+        if (Objects.isNull(constant)) {
+            throw new IllegalArgumentException("%s のコード %s に %d は含まれていません。"
+                    .formatted(enumClass.getName(), index.getCodes(), code));
+        }
+
+        return constant;
+    }
+
+    /**
+     * 指定した {@code long} のコードを持つ指定した列挙型の列挙型定数を返します。<br />
+     * コードが {@link Long} の列挙型を対象とし、コードをボクシングせずに検索します。
+     * 列挙型定数はコードの範囲が狭い場合は配列、そうではない場合は整数のハッシュ表から検索します。
+     *
+     * @param <E>       列挙型の型
+     * @param enumClass 列挙型の型を表すクラス
+     * @param code      コード
+     * @return 列挙型定数
+     * @throws IllegalArgumentException 指定した列挙型に指定したコードの列挙型定数がない場合
+     */
+    static <E extends Enum<E> & ICodeEnum<E, Long>> E codeOfLong(@NonNull final Class<E> enumClass, final long code)
+            throws IllegalArgumentException {
+        final CodeEnumIndex<E, Long> index = CodeEnumIndex.of(enumClass);
+
+        final E constant = index.get(code);
+
+        if (Objects.isNull(constant)) {
+            throw new IllegalArgumentException("%s のコード %s に %d は含まれていません。"
+                    .formatted(enumClass.getName(), index.getCodes(), code));
+        }
+
+        return constant;
     }
 
     /**
@@ -66,16 +115,15 @@ public interface ICodeEnum<E extends Enum<E> & ICodeEnum<E, C>, C> {
      * @param <C>       列挙型のコードの型
      * @param enumClass 列挙型の型を表すクラス
      * @param code      コード
-     * @return 指定したコードを持つ指定した列挙型の列挙型定数が存在する場合は {@code true}、そうではない場合は {@code false}
+     * @return 指定したコードを持つ指定した列挙型の列挙型定数が存在する場合は {@code true}、そうではない場合（コードが {@code null} の場合を含む）は {@code false}
      */
     static <E extends Enum<E> & ICodeEnum<E, C>, C> boolean isValidCode(@NonNull final Class<E> enumClass, final C code) {
-        final Set<C> codes = codes(enumClass);
-
-        return codes.contains(code);
+        return CodeEnumIndex.of(enumClass).contains(code);
     }
 
     /**
-     * すべてのコードを返します。
+     * すべてのコードを返します。<br />
+     * 返すセットは列挙型ごとに共有する変更不可のセットで、列挙型定数の宣言順にコードを返します。
      *
      * @param <E>       列挙型の型
      * @param <C>       列挙型のコードの型
@@ -83,22 +131,20 @@ public interface ICodeEnum<E extends Enum<E> & ICodeEnum<E, C>, C> {
      * @return すべてのコード
      */
     static <E extends Enum<E> & ICodeEnum<E, C>, C> Set<C> codes(@NonNull final Class<E> enumClass) {
-        return EnumSet.allOf(enumClass).stream().map(ICodeEnum::getCode).collect(Collectors.toUnmodifiableSet());
+        return CodeEnumIndex.of(enumClass).getCodes();
     }
 
     /**
-     * 列挙型のコードの型を表すクラスを返します。
+     * 列挙型のコードの型を表すクラスを返します。<br />
+     * コードの型は列挙型ごとに一度だけ解決してキャッシュするため、変換のたびに呼び出しても型引数の解決は行いません。
      *
      * @param <E>       列挙型の型
      * @param <C>       列挙型のコードの型
      * @param enumClass 列挙型の型を表すクラス
      * @return 列挙型のコードの型を表すクラス
      */
-    @SuppressWarnings("unchecked")
     static <E extends Enum<E> & ICodeEnum<E, C>, C> Class<C> getCodeClass(@NonNull final Class<E> enumClass) {
-        final GenericsContext context = GenericsResolver.resolve(enumClass).type(ICodeEnum.class);
-
-        return (Class<C>) context.generic(1);
+        return CodeEnumIndex.of(enumClass).getCodeClass();
     }
 
     /**
@@ -0,0 +1,142 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.enumeration.type;
+
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 整数のコードから列挙型定数への表です。<br />
+ * コードをボクシングせずに検索するため、コードの範囲が狭い場合は配列、そうではない場合はオープンアドレス法のハッシュ表で保持します。
+ *
+ * @param <E> 列挙型の型です。
+ * @author hamana
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+final class LongCodeTable<E> {
+    /**
+     * 配列で保持するコードの範囲の、コードの数に対する倍率の上限です。
+     */
+    private static final int DENSE_RANGE_FACTOR = 4;
+
+    /**
+     * 配列で保持するコードの範囲の下限です（コードの数が少ない場合はこの範囲まで配列で保持します）。
+     */
+    private static final int MINIMUM_DENSE_RANGE = 64;
+
+    /**
+     * 配列で保持する場合の最小のコード、ハッシュ表で保持する場合は {@code 0} です。
+     */
+    private final long minimum;
+
+    /**
+     * コード（ハッシュ表で保持する場合のみ）です。
+     */
+    @ToString.Exclude
+    private final long[] keys;
+
+    /**
+     * 列挙型定数です。<br />
+     * 配列で保持する場合は最小のコードからの差、ハッシュ表で保持する場合はハッシュ値の位置に格納し、空きは {@code null} です。
+     */
+    @ToString.Exclude
+    private final Object[] values;
+
+    /**
+     * 指定したコードから列挙型定数への対応から表を生成します。
+     *
+     * @param <E>       列挙型の型
+     * @param constants コードから列挙型定数への対応（コードは {@link Integer} または {@link Long}）
+     * @return 表
+     */
+    static <E> LongCodeTable<E> of(@NonNull final Map<? extends Number, E> constants) {
+        final long minimum = constants.keySet().stream().mapToLong(Number::longValue).min().orElse(0);
+        final long maximum = constants.keySet().stream().mapToLong(Number::longValue).max().orElse(0);
+
+        // コードの範囲が long の範囲を超える場合は負になる
+        final long span = maximum - minimum;
+
+        if (span >= 0 && span < Math.max(MINIMUM_DENSE_RANGE, (long) constants.size() * DENSE_RANGE_FACTOR)) {
+            final Object[] values = new Object[(int) span + 1];
+
+            constants.forEach((code, constant) -> values[(int) (code.longValue() - minimum)] = constant);
+
+            return new LongCodeTable<>(minimum, null, values);
+        }
+
+        // 負荷率が 0.5 以下になるよう、コードの数の 2 倍以上の 2 のべき乗の大きさにする
+        final int capacity = Integer.highestOneBit(constants.size() * 2 - 1) << 1;
+
+        final long[] keys = new long[capacity];
+        final Object[] values = new Object[capacity];
+
+        constants.forEach((code, constant) -> {
+            int index = hash(code.longValue()) & (capacity - 1);
+
+            while (Objects.nonNull(values[index])) {
+                index = (index + 1) & (capacity - 1);
+            }
+
+            keys[index] = code.longValue();
+            values[index] = constant;
+        });
+
+        return new LongCodeTable<>(0, keys, values);
+    }
+
+    /**
+     * コードのハッシュ値を返します。
+     *
+     * @param code コード
+     * @return ハッシュ値
+     */
+    private static int hash(final long code) {
+        final long hash = code * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 指定したコードを持つ列挙型定数を返します。
+     *
+     * @param code コード
+     * @return 列挙型定数（指定したコードを持つ列挙型定数がない場合は {@code null}）
+     */
+    @SuppressWarnings("unchecked")
+    E get(final long code) {
+        if (Objects.isNull(keys)) {
+            final long index = code - minimum;
+
+            return index >= 0 && index < values.length ? (E) values[(int) index] : null;
+        }
+
+        final int mask = values.length - 1;
+
+        for (int index = hash(code) & mask; Objects.nonNull(values[index]); index = (index + 1) & mask) {
+            if (keys[index] == code) {
+                return (E) values[index];
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.beanutils2.ConvertUtils;
+
+import lombok.NonNull;
+
+/**
+ * 列挙型のコードと DB のデータ型に準拠した値の変換方法です。<br />
+ * 変換元と変換先の型の組み合わせごとに一度だけ選択し、値ごとには選択した方法で直接変換します。
+ * 直接変換できない値は、従来どおり {@link ConvertUtils#convert(Object, Class)} で変換します。
+ *
+ * @author hamana
+ */
+enum CodeConversion {
+    /**
+     * 変換先の型に代入できるため、変換しない方法です。
+     */
+    IDENTITY {
+        @Override
+        Object convertValue(final Object value, final Class<?> targetClass) {
+            return value;
+        }
+    },
+
+    /**
+     * 数値を文字列に変換する方法です。
+     */
+    TO_STRING {
+        @Override
+        Object convertValue(final Object value, final Class<?> targetClass) {
+            return value.toString();
+        }
+    },
+
+    /**
+     * 整数、または整数を表す文字列を整数に変換する方法です。
+     */
+    INTEGRAL {
+        @Override
+        Object convertValue(final Object value, final Class<?> targetClass) {
+            final long longValue;
+
+            try {
+                longValue = switch (value) {
+                    case BigDecimal decimal -> decimal.longValueExact();
+                    case BigInteger integer -> integer.longValueExact();
+                    case Number number -> number.longValue();
+                    default -> Long.parseLong(value.toString());
+                };
+            } catch (final ArithmeticException | NumberFormatException e) {
+                // 小数や範囲外の値などは従来の変換に任せる
+                return ConvertUtils.convert(value, targetClass);
+            }
+
+            if (targetClass == Long.class) {
+                return longValue;
+            }
+
+            if (targetClass == Integer.class && longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                return (int) longValue;
+            }
+
+            if (targetClass == Short.class && longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE) {
+                return (short) longValue;
+            }
+
+            if (targetClass == Byte.class && longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE) {
+                return (byte) longValue;
+            }
+
+            if (targetClass == BigInteger.class) {
+                return BigInteger.valueOf(longValue);
+            }
+
+            if (targetClass == BigDecimal.class) {
+                return BigDecimal.valueOf(longValue);
+            }
+
+            return ConvertUtils.convert(value, targetClass);
+        }
+    },
+
+    /**
+     * {@link ConvertUtils#convert(Object, Class)} で変換する方法です。
+     */
+    CONVERT_UTILS {
+        @Override
+        Object convertValue(final Object value, final Class<?> targetClass) {
+            return ConvertUtils.convert(value, targetClass);
+        }
+    };
+
+    /**
+     * 直接変換する数値の型です。
+     */
+    private static final Set<Class<?>> NUMBER_CLASSES =
+            Set.of(Long.class, Integer.class, Short.class, Byte.class, BigInteger.class, BigDecimal.class);
+
+    /**
+     * 値を変換します。<br />
+     * 値が {@code null} の場合は、従来どおり {@link ConvertUtils#convert(Object, Class)} で変換します。
+     *
+     * @param value       値
+     * @param targetClass 変換先の型を表すクラス
+     * @return 変換した値
+     */
+    Object convert(final Object value, @NonNull final Class<?> targetClass) {
+        if (Objects.isNull(value)) {
+            return ConvertUtils.convert(value, targetClass);
+        }
+
+        return convertValue(value, targetClass);
+    }
+
+    /**
+     * {@code null} ではない値を変換します。
+     *
+     * @param value       値
+     * @param targetClass 変換先の型を表すクラス
+     * @return 変換した値
+     */
+    abstract Object convertValue(Object value, Class<?> targetClass);
+
+    /**
+     * 変換元と変換先の型に適した変換方法を返します。
+     *
+     * @param sourceClass 変換元の型を表すクラス
+     * @param targetClass 変換先の型を表すクラス
+     * @return 変換方法
+     */
+    static CodeConversion of(@NonNull final Class<?> sourceClass, @NonNull final Class<?> targetClass) {
+        if (targetClass.isAssignableFrom(sourceClass)) {
+            return IDENTITY;
+        }
+
+        final boolean numberSource = NUMBER_CLASSES.contains(sourceClass);
+
+        if (targetClass == String.class && numberSource) {
+            return TO_STRING;
+        }
+
+        if (NUMBER_CLASSES.contains(targetClass) && (numberSource || sourceClass == String.class)) {
+            return INTEGRAL;
+        }
+
+        return CONVERT_UTILS;
+    }
+}
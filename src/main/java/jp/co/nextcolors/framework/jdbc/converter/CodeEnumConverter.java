@@ -17,7 +17,6 @@ package jp.co.nextcolors.framework.jdbc.converter;
 
 import java.util.Objects;
 
-import org.apache.commons.beanutils2.ConvertUtils;
 import org.jooq.Converter;
 
 import ru.vyarus.java.generics.resolver.GenericsResolver;
@@ -29,7 +28,8 @@ import lombok.ToString;
 import jp.co.nextcolors.framework.enumeration.type.ICodeEnum;
 
 /**
- * プロパティにコードを持つ列挙型の値を DB のデータ型に準拠した値に変換するための抽象クラスです。
+ * プロパティにコードを持つ列挙型の値を DB のデータ型に準拠した値に変換するための抽象クラスです。<br />
+ * コードと DB のデータ型に準拠した値の変換方法は生成時に一度だけ選択するため、型が一致する場合は値ごとの変換を行いません。
  *
  * @param <E> 列挙型の型です。
  * @param <C> 列挙型のコードの型です。
@@ -55,6 +55,16 @@ public abstract class CodeEnumConverter<E extends Enum<E> & ICodeEnum<E, C>, C,
      */
     private final Class<D> databaseObjectClass;
 
+    /**
+     * DB のデータ型に準拠した値からコードへの変換方法です。
+     */
+    private final CodeConversion fromConversion;
+
+    /**
+     * コードから DB のデータ型に準拠した値への変換方法です。
+     */
+    private final CodeConversion toConversion;
+
     @SuppressWarnings("unchecked")
     protected CodeEnumConverter() {
         final GenericsContext context = GenericsResolver.resolve(getClass()).type(CodeEnumConverter.class);
@@ -62,6 +72,9 @@ public abstract class CodeEnumConverter<E extends Enum<E> & ICodeEnum<E, C>, C,
         enumClass = (Class<E>) context.generic(0);
         enumCodeClass = (Class<C>) context.generic(1);
         databaseObjectClass = (Class<D>) context.generic(2);
+
+        fromConversion = CodeConversion.of(databaseObjectClass, enumCodeClass);
+        toConversion = CodeConversion.of(enumCodeClass, databaseObjectClass);
     }
 
     /**
@@ -73,7 +86,7 @@ public abstract class CodeEnumConverter<E extends Enum<E> & ICodeEnum<E, C>, C,
             return null;
         }
 
-        final C code = enumCodeClass.cast(ConvertUtils.convert(databaseObject, enumCodeClass));
+        final C code = enumCodeClass.cast(fromConversion.convert(databaseObject, enumCodeClass));
 
         return ICodeEnum.codeOf(enumClass, code);
     }
@@ -89,7 +102,7 @@ public abstract class CodeEnumConverter<E extends Enum<E> & ICodeEnum<E, C>, C,
 
         final C code = userObject.getCode();
 
-        return databaseObjectClass.cast(ConvertUtils.convert(code, databaseObjectClass));
+        return databaseObjectClass.cast(toConversion.convert(code, databaseObjectClass));
     }
 
     /**
@@ -0,0 +1,158 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jooq.DSLContext;
+import org.jooq.Select;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 要素の総数を指定した期間キャッシュする方針です。<br />
+ * 要素の総数は要素を検索するクエリ（テーブルと検索条件）ごとにキャッシュし、
+ * キャッシュの数が上限を超えた場合は最も長い間使用されていない要素の総数を破棄します。<br />
+ * キャッシュした要素の総数はその後の更新を反映していない場合があるため、おおよその要素の総数として扱います。
+ *
+ * @author hamana
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class CachedTotalCountStrategy implements ITotalCountStrategy {
+    /**
+     * キャッシュする要素の総数の数の上限のデフォルト値です。
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * 要素の総数を数える方針です。
+     */
+    @Getter
+    @ToString.Include
+    private final ITotalCountStrategy delegate;
+
+    /**
+     * 要素の総数をキャッシュする期間です。
+     */
+    @Getter
+    @ToString.Include
+    private final Duration timeToLive;
+
+    /**
+     * キャッシュする要素の総数の数の上限です。
+     */
+    @Getter
+    @ToString.Include
+    private final int maximumSize;
+
+    /**
+     * キャッシュした要素の総数です。<br />
+     * アクセス順に並べ、上限を超えた場合は最も長い間使用されていない要素の総数を破棄します。
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            return size() > maximumSize;
+        }
+    };
+
+    /**
+     * @param delegate    要素の総数を数える方針
+     * @param timeToLive  要素の総数をキャッシュする期間
+     * @param maximumSize キャッシュする要素の総数の数の上限
+     */
+    public CachedTotalCountStrategy(@NonNull final ITotalCountStrategy delegate,
+                                    @NonNull final Duration timeToLive,
+                                    final int maximumSize) {
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("要素の総数をキャッシュする期間が負の値です。");
+        }
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("キャッシュする要素の総数の数の上限は 1 以上でなければなりません。");
+        }
+
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TotalCount> count(@NonNull final DSLContext dslContext, @NonNull final Select<?> query) {
+        // テーブルと検索条件を含むクエリをキーにする
+        final String key = dslContext.renderInlined(query);
+
+        final long now = System.nanoTime();
+
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+
+            if (Objects.nonNull(entry) && now - entry.countedAt() < timeToLive.toNanos()) {
+                return Optional.of(TotalCount.approximate(entry.value()));
+            }
+        }
+
+        final Optional<TotalCount> totalCount = delegate.count(dslContext, query);
+
+        totalCount.ifPresent(count -> {
+            synchronized (entries) {
+                entries.put(key, new Entry(count.getValue(), now));
+            }
+        });
+
+        return totalCount;
+    }
+
+    /**
+     * キャッシュしている要素の総数の数を取得します。
+     *
+     * @return キャッシュしている要素の総数の数
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * キャッシュしているすべての要素の総数を破棄します。<br />
+     * 大量のレコードを追加・削除した直後など、要素の総数を数え直す場合に使用します。
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * キャッシュした要素の総数です。
+     *
+     * @param value     要素の総数
+     * @param countedAt 要素の総数を数えた時刻（{@link System#nanoTime()}）
+     * @author hamana
+     */
+    private record Entry(int value, long countedAt) {
+    }
+}
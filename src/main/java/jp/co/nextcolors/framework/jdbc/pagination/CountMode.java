@@ -0,0 +1,35 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+/**
+ * ページング検索で要素の総数を数える方法です。
+ *
+ * @author hamana
+ */
+public enum CountMode {
+    /**
+     * 要素の総数を数えるクエリと、ページの要素を検索するクエリを別々に実行します。
+     */
+    SEPARATE,
+
+    /**
+     * ウィンドウ関数（{@code count(*) over ()}）で、ページの要素と要素の総数を 1 つのクエリで検索します。<br />
+     * ウィンドウ関数をサポートしていない SQL の方言の場合や、SQL ファイルを使用する場合、
+     * 要素の総数を数える方針が {@link ITotalCountStrategy#exact()} ではない場合は {@link #SEPARATE} で検索します。
+     */
+    WINDOW
+}
@@ -0,0 +1,69 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * データベースの統計情報から要素の総数を見積もる方針です。<br />
+ * 要素を検索するクエリの実行計画（{@link DSLContext#explain(org.jooq.Query)}）の見積もり行数を要素の総数とします。
+ * 見積もりをサポートしていない SQL の方言では要素の総数を正確に数えます。<br />
+ * 見積もりをサポートする SQL の方言は {@link #supportsEstimate(SQLDialect)} をオーバーライドして変更できます。
+ *
+ * @author hamana
+ */
+@ToString
+public class EstimatedTotalCountStrategy implements ITotalCountStrategy {
+    /**
+     * 実行計画の見積もり行数が統計情報に基づく SQL の方言です。
+     */
+    private static final Set<SQLDialect> ESTIMATE_SUPPORTED_DIALECTS = EnumSet.of(SQLDialect.POSTGRES, SQLDialect.MYSQL, SQLDialect.MARIADB);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TotalCount> count(@NonNull final DSLContext dslContext, @NonNull final Select<?> query) {
+        if (supportsEstimate(dslContext.dialect())) {
+            final double rows = dslContext.explain(query).rows();
+
+            if (!Double.isNaN(rows) && rows >= 0) {
+                return Optional.of(TotalCount.approximate((int) Math.min(Math.round(rows), Integer.MAX_VALUE)));
+            }
+        }
+
+        return Optional.of(TotalCount.exact(dslContext.fetchCount(query)));
+    }
+
+    /**
+     * SQL の方言が統計情報による要素の総数の見積もりをサポートしているかどうかを判定します。
+     *
+     * @param dialect SQL の方言
+     * @return 見積もりをサポートしている場合は {@code true}、そうではない場合は {@code false}
+     */
+    protected boolean supportsEstimate(final SQLDialect dialect) {
+        return ESTIMATE_SUPPORTED_DIALECTS.contains(dialect.family());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import java.util.Optional;
+
+import org.jooq.DSLContext;
+import org.jooq.Select;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 要素の総数を毎回正確に数える方針です。
+ *
+ * @author hamana
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+final class ExactTotalCountStrategy implements ITotalCountStrategy {
+    /**
+     * 唯一のインスタンスです。
+     */
+    static final ExactTotalCountStrategy INSTANCE = new ExactTotalCountStrategy();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TotalCount> count(@NonNull final DSLContext dslContext, @NonNull final Select<?> query) {
+        return Optional.of(TotalCount.exact(dslContext.fetchCount(query)));
+    }
+}
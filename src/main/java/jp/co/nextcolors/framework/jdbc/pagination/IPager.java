@@ -17,7 +17,12 @@ package jp.co.nextcolors.framework.jdbc.pagination;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jooq.Condition;
 import org.jooq.OrderField;
@@ -26,6 +31,10 @@ import org.jooq.TableRecord;
 
 import jp.co.nextcolors.framework.data.pagination.IPage;
 import jp.co.nextcolors.framework.data.pagination.IPageRequest;
+import jp.co.nextcolors.framework.data.pagination.SeekPage;
+import jp.co.nextcolors.framework.data.pagination.SeekPageRequest;
+
+import lombok.NonNull;
 
 /**
  * レコードをページング検索するためのページャです。
@@ -60,6 +69,86 @@ public interface IPager<T> {
     <R extends TableRecord<R>> IPage<T> fetchPage(IPageRequest pageRequest, Table<R> table,
                                                   Condition condition, Collection<? extends OrderField<?>> order);
 
+    /**
+     * レコードを非同期にページング検索します。<br />
+     * {@link #withParallel(boolean)} で並列に実行する場合は、要素の総数を数えるクエリとページの要素を検索するクエリを同時に実行します。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順
+     * @return 検索結果
+     */
+    default <R extends TableRecord<R>> CompletionStage<IPage<T>> fetchPageAsync(@NonNull final IPageRequest pageRequest,
+                                                                                @NonNull final Table<R> table,
+                                                                                final Condition condition,
+                                                                                @NonNull final OrderField<?>... order) {
+        return fetchPageAsync(pageRequest, table, condition, List.of(order));
+    }
+
+    /**
+     * レコードを非同期にページング検索します。<br />
+     * {@link #withParallel(boolean)} で並列に実行する場合は、要素の総数を数えるクエリとページの要素を検索するクエリを同時に実行します。<br />
+     * デフォルトの実装は {@link #fetchPage(IPageRequest, Table, Condition, Collection)} を仮想スレッドで実行します。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順
+     * @return 検索結果
+     */
+    default <R extends TableRecord<R>> CompletionStage<IPage<T>> fetchPageAsync(@NonNull final IPageRequest pageRequest,
+                                                                                @NonNull final Table<R> table,
+                                                                                final Condition condition,
+                                                                                @NonNull final Collection<? extends OrderField<?>> order) {
+        return CompletableFuture.supplyAsync(() -> fetchPage(pageRequest, table, condition, order),
+                                             task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * キーセット（シーク）方式でレコードをページング検索します。<br />
+     * 前のページの最後のレコードのソートキーの値より後のレコードを検索するため、ページの深さによらず一定の時間で検索できます。
+     * ソート順は一意になるように指定してください（主キーを最後に含めるなど）。
+     * 次のページは、検索結果の {@link SeekPage#getNextPageRequest()} で検索します。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順（フィールド、またはフィールドのソート順）
+     * @return 検索結果
+     */
+    default <R extends TableRecord<R>> SeekPage<T> fetchSeekPage(@NonNull final SeekPageRequest pageRequest,
+                                                                 @NonNull final Table<R> table,
+                                                                 final Condition condition,
+                                                                 @NonNull final OrderField<?>... order) {
+        return fetchSeekPage(pageRequest, table, condition, List.of(order));
+    }
+
+    /**
+     * キーセット（シーク）方式でレコードをページング検索します。<br />
+     * 前のページの最後のレコードのソートキーの値より後のレコードを検索するため、ページの深さによらず一定の時間で検索できます。
+     * ソート順は一意になるように指定してください（主キーを最後に含めるなど）。
+     * 次のページは、検索結果の {@link SeekPage#getNextPageRequest()} で検索します。<br />
+     * デフォルトの実装はキーセット方式に対応していないため、{@link UnsupportedOperationException} をスローします。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順（フィールド、またはフィールドのソート順）
+     * @return 検索結果
+     * @throws UnsupportedOperationException キーセット方式に対応していない場合
+     */
+    default <R extends TableRecord<R>> SeekPage<T> fetchSeekPage(final SeekPageRequest pageRequest, final Table<R> table,
+                                                                 final Condition condition,
+                                                                 final Collection<? extends OrderField<?>> order)
+            throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("キーセット方式のページング検索に対応していません。");
+    }
+
     /**
      * SQL ファイルを使用してレコードをページング検索します。
      *
@@ -78,4 +167,86 @@ public interface IPager<T> {
      * @return 検索結果
      */
     IPage<T> fetchPageBySqlFile(IPageRequest pageRequest, Path sqlFilePath, Map<String, Object> params);
+
+    /**
+     * SQL ファイルを使用してレコードを非同期にページング検索します。<br />
+     * {@link #withParallel(boolean)} で並列に実行する場合は、要素の総数を数えるクエリとページの要素を検索するクエリを同時に実行します。
+     *
+     * @param pageRequest ページ付けの情報
+     * @param sqlFilePath SQL ファイルのパス
+     * @return 検索結果
+     */
+    default CompletionStage<IPage<T>> fetchPageBySqlFileAsync(@NonNull final IPageRequest pageRequest,
+                                                              @NonNull final Path sqlFilePath) {
+        return fetchPageBySqlFileAsync(pageRequest, sqlFilePath, Collections.emptyMap());
+    }
+
+    /**
+     * SQL ファイルを使用してレコードを非同期にページング検索します。<br />
+     * {@link #withParallel(boolean)} で並列に実行する場合は、要素の総数を数えるクエリとページの要素を検索するクエリを同時に実行します。<br />
+     * デフォルトの実装は {@link #fetchPageBySqlFile(IPageRequest, Path, Map)} を仮想スレッドで実行します。
+     *
+     * @param pageRequest ページ付けの情報
+     * @param sqlFilePath SQL ファイルのパス
+     * @param params      パラメータ
+     * @return 検索結果
+     */
+    default CompletionStage<IPage<T>> fetchPageBySqlFileAsync(@NonNull final IPageRequest pageRequest,
+                                                              @NonNull final Path sqlFilePath,
+                                                              @NonNull final Map<String, Object> params) {
+        return CompletableFuture.supplyAsync(() -> fetchPageBySqlFile(pageRequest, sqlFilePath, params),
+                                             task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * 要素の総数を数える方法を変更したページャを取得します。<br />
+     * このページャは変更しないため、呼び出しごとに数える方法を切り替える場合にも使用できます。
+     *
+     * @param countMode 要素の総数を数える方法
+     * @return 要素の総数を数える方法を変更したページャ
+     * @throws UnsupportedOperationException 要素の総数を数える方法の変更に対応していない場合
+     */
+    default IPager<T> withCountMode(final CountMode countMode) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("要素の総数を数える方法の変更に対応していません。");
+    }
+
+    /**
+     * 要素の総数を数える方針を変更したページャを取得します。<br />
+     * このページャは変更しないため、呼び出しごとに数える方針を切り替える場合にも使用できます。
+     * {@link CountMode#WINDOW} は要素の総数を正確に数える方針（{@link ITotalCountStrategy#exact()}）の場合のみ適用します。
+     *
+     * @param totalCountStrategy 要素の総数を数える方針
+     * @return 要素の総数を数える方針を変更したページャ
+     * @throws UnsupportedOperationException 要素の総数を数える方針の変更に対応していない場合
+     */
+    default IPager<T> withTotalCountStrategy(final ITotalCountStrategy totalCountStrategy) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("要素の総数を数える方針の変更に対応していません。");
+    }
+
+    /**
+     * 要素の総数を数えるクエリとページの要素を検索するクエリを並列に実行するかどうかを変更したページャを取得します。<br />
+     * 並列に実行する場合、それぞれのクエリは別々のコネクションで実行するため、DSL コンテキストはコネクションプールなどの
+     * データソースから都度コネクションを取得する必要があります（1 つのコネクションを共有する場合は順番に実行します）。
+     * また、どちらのクエリもエグゼキュータのスレッドで実行するため、呼び出し元のスレッドのトランザクションには参加しません。
+     *
+     * @param parallel クエリを並列に実行する場合は {@code true}
+     * @return 並列に実行するかどうかを変更したページャ
+     * @throws UnsupportedOperationException クエリの並列実行の変更に対応していない場合
+     */
+    default IPager<T> withParallel(final boolean parallel) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("クエリの並列実行の変更に対応していません。");
+    }
+
+    /**
+     * クエリを並列・非同期に実行するエグゼキュータを変更したページャを取得します。<br />
+     * デフォルトではクエリごとに仮想スレッドを開始します（終了が必要なエグゼキュータは使用しません）。<br />
+     * 指定したエグゼキュータはページャでは終了しないため、呼び出し元で終了してください。
+     *
+     * @param executor クエリを並列・非同期に実行するエグゼキュータ
+     * @return エグゼキュータを変更したページャ
+     * @throws UnsupportedOperationException エグゼキュータの変更に対応していない場合
+     */
+    default IPager<T> withExecutor(final Executor executor) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("エグゼキュータの変更に対応していません。");
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.jooq.DSLContext;
+import org.jooq.Select;
+
+/**
+ * {@link Pager} が要素の総数を数える方針です。<br />
+ * 大量のレコードを含むテーブルでは要素の総数を数えるクエリが検索時間の大半を占めるため、
+ * 正確な要素の総数が不要な場合はキャッシュや統計情報を使用する方針、または要素の総数を数えない方針を選択できます。
+ *
+ * @author hamana
+ */
+@FunctionalInterface
+public interface ITotalCountStrategy {
+    /**
+     * 要素の総数を数えます。
+     *
+     * @param dslContext DSL コンテキスト
+     * @param query      要素を検索するクエリ（ソート順とページ付けを含まない）
+     * @return 要素の総数（要素の総数を数えない場合は空）
+     */
+    Optional<TotalCount> count(DSLContext dslContext, Select<?> query);
+
+    /**
+     * 要素の総数を毎回正確に数える方針を取得します。
+     *
+     * @return 要素の総数を毎回正確に数える方針
+     */
+    static ITotalCountStrategy exact() {
+        return ExactTotalCountStrategy.INSTANCE;
+    }
+
+    /**
+     * 正確に数えた要素の総数を指定した期間キャッシュする方針を取得します。<br />
+     * 要素の総数はテーブルと検索条件（要素を検索するクエリ）ごとにキャッシュします。
+     * キャッシュは取得した方針のインスタンスごとに保持するため、同じ方針を設定したページャの間で共有されます。
+     *
+     * @param timeToLive 要素の総数をキャッシュする期間
+     * @return 正確に数えた要素の総数を指定した期間キャッシュする方針
+     */
+    static ITotalCountStrategy cached(final Duration timeToLive) {
+        return new CachedTotalCountStrategy(exact(), timeToLive, CachedTotalCountStrategy.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * データベースの統計情報（実行計画の見積もり行数）から要素の総数を見積もる方針を取得します。<br />
+     * 見積もりをサポートしていない SQL の方言では要素の総数を正確に数えます。
+     *
+     * @return データベースの統計情報から要素の総数を見積もる方針
+     */
+    static ITotalCountStrategy estimated() {
+        return new EstimatedTotalCountStrategy();
+    }
+
+    /**
+     * 要素の総数を数えない方針を取得します。<br />
+     * ページに含める要素の最大数より 1 件多く検索し、次のページが存在するかどうかのみを判定します。
+     *
+     * @return 要素の総数を数えない方針
+     */
+    static ITotalCountStrategy hasNextOnly() {
+        return HasNextOnlyTotalCountStrategy.INSTANCE;
+    }
+}
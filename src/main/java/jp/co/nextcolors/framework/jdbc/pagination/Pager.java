@@ -18,30 +18,53 @@ package jp.co.nextcolors.framework.jdbc.pagination;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.OrderField;
-import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SelectLimitStep;
 import org.jooq.SelectSeekStepN;
+import org.jooq.SortField;
 import org.jooq.Table;
 import org.jooq.TableRecord;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
 
+import jp.co.future.uroborosql.context.ExecutionContext;
+
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.ToString;
+import lombok.With;
 
 import jp.co.nextcolors.framework.data.pagination.IPage;
 import jp.co.nextcolors.framework.data.pagination.IPageRequest;
 import jp.co.nextcolors.framework.data.pagination.Page;
-import jp.co.nextcolors.framework.jdbc.query.ISqlFileSelect;
+import jp.co.nextcolors.framework.data.pagination.SeekPage;
+import jp.co.nextcolors.framework.data.pagination.SeekPageRequest;
 import jp.co.nextcolors.framework.jdbc.query.SqlFileSelect;
-import jp.co.nextcolors.framework.jdbc.record.mapper.BeanRecordMapper;
 
 /**
  * {@link IPager} の実装クラスです。
@@ -49,10 +72,26 @@ import jp.co.nextcolors.framework.jdbc.record.mapper.BeanRecordMapper;
  * @param <T> ページに含まれるレコードの型です。
  * @author hamana
  */
-@AllArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @ToString
 @EqualsAndHashCode
 public class Pager<T> implements IPager<T> {
+    /**
+     * ウィンドウ関数で数えた要素の総数のフィールド名です。
+     */
+    private static final String TOTAL_COUNT_FIELD_NAME = "pager_total_count";
+
+    /**
+     * ウィンドウ関数（{@code count(*) over ()}）をサポートしていない SQL の方言です。
+     */
+    private static final Set<SQLDialect> WINDOW_FUNCTION_UNSUPPORTED_DIALECTS = EnumSet.of(SQLDialect.DERBY, SQLDialect.HSQLDB);
+
+    /**
+     * クエリを並列に実行するデフォルトのエグゼキュータです。<br />
+     * クエリごとに仮想スレッドを開始するだけで、スレッドプールなどの状態を持たないため、終了する必要はありません。
+     */
+    private static final Executor DEFAULT_EXECUTOR = task -> Thread.ofVirtual().name("pager").start(task);
+
     /**
      * DSL コンテキストです。
      */
@@ -65,6 +104,47 @@ public class Pager<T> implements IPager<T> {
     @NonNull
     private final Class<T> resultClass;
 
+    /**
+     * 要素の総数を数える方法です。
+     */
+    @Getter
+    @With
+    @NonNull
+    private final CountMode countMode;
+
+    /**
+     * 要素の総数を数える方針です。
+     */
+    @Getter
+    @With
+    @NonNull
+    private final ITotalCountStrategy totalCountStrategy;
+
+    /**
+     * 要素の総数を数えるクエリとページの要素を検索するクエリを並列に実行するかどうかです。
+     */
+    @Getter
+    @With
+    private final boolean parallel;
+
+    /**
+     * クエリを並列に実行するエグゼキュータです。
+     */
+    @Getter
+    @With
+    @NonNull
+    private final Executor executor;
+
+    /**
+     * 要素の総数を {@link CountMode#SEPARATE} で毎回正確に数え、クエリを順番に実行するページャを生成します。
+     *
+     * @param dslContext  DSL コンテキスト
+     * @param resultClass ページに含まれるレコードの型を表すクラス
+     */
+    public Pager(@NonNull final DSLContext dslContext, @NonNull final Class<T> resultClass) {
+        this(dslContext, resultClass, CountMode.SEPARATE, ITotalCountStrategy.exact(), false, DEFAULT_EXECUTOR);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,17 +164,285 @@ public class Pager<T> implements IPager<T> {
                                                          @NonNull final Table<R> table,
                                                          final Condition condition,
                                                          @NonNull final Collection<? extends OrderField<?>> order) {
-        final SelectSeekStepN<R> query = dslContext.selectFrom(table).where(condition).orderBy(order);
+        if (usesWindowCount()) {
+            return fetchPageWithWindowCount(pageRequest, table, condition, order);
+        }
 
-        final int totalElements = dslContext.fetchCount(query);
+        return fetchCountAndPage(pageRequest, () -> dslContext.selectFrom(table).where(condition),
+                                 getElementsFetcher(pageRequest, table, condition, order));
+    }
 
-        final List<T> elements = query.offset(pageRequest.getOffset())
-                .limit(pageRequest.getPageSize())
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends TableRecord<R>> CompletionStage<IPage<T>> fetchPageAsync(@NonNull final IPageRequest pageRequest,
+                                                                               @NonNull final Table<R> table,
+                                                                               final Condition condition,
+                                                                               @NonNull final OrderField<?>... order) {
+        return fetchPageAsync(pageRequest, table, condition, List.of(order));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends TableRecord<R>> CompletionStage<IPage<T>> fetchPageAsync(@NonNull final IPageRequest pageRequest,
+                                                                               @NonNull final Table<R> table,
+                                                                               final Condition condition,
+                                                                               @NonNull final Collection<? extends OrderField<?>> order) {
+        if (usesWindowCount() || !canRunInParallel()) {
+            return CompletableFuture.supplyAsync(() -> fetchPage(pageRequest, table, condition, order), executor);
+        }
+
+        return fetchPageInParallel(pageRequest, () -> dslContext.selectFrom(table).where(condition),
+                                   getElementsFetcher(pageRequest, table, condition, order));
+    }
+
+    /**
+     * 検索するレコードの最大数を受け取り、テーブルからページの要素を検索する関数を取得します。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順
+     * @return ページの要素を検索する関数
+     */
+    private <R extends TableRecord<R>> IntFunction<List<T>> getElementsFetcher(final IPageRequest pageRequest,
+                                                                               final Table<R> table,
+                                                                               final Condition condition,
+                                                                               final Collection<? extends OrderField<?>> order) {
+        return limit -> dslContext.selectFrom(table)
+                .where(condition)
+                .orderBy(order)
+                .offset(pageRequest.getOffset())
+                .limit(limit)
                 .fetchInto(resultClass);
+    }
+
+    /**
+     * 要素の総数を数え、ページの要素を検索します。<br />
+     * 並列に実行する場合は、要素の総数を数えるクエリとページの要素を検索するクエリをエグゼキュータで同時に実行し、完了を待ちます。
+     *
+     * @param pageRequest ページ付けの情報
+     * @param countQuery  要素を検索するクエリ（ソート順とページ付けを含まない）を生成する関数
+     * @param fetcher     検索するレコードの最大数を受け取り、ページの要素を検索する関数
+     * @return 検索結果
+     */
+    @SneakyThrows
+    private IPage<T> fetchCountAndPage(final IPageRequest pageRequest,
+                                       final Supplier<? extends Select<?>> countQuery,
+                                       final IntFunction<List<T>> fetcher) {
+        if (canRunInParallel()) {
+            try {
+                return fetchPageInParallel(pageRequest, countQuery, fetcher).join();
+            } catch (final CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        final TotalCount totalCount = countTotal(countQuery).orElse(null);
+
+        // 要素の総数を数えない場合は、次のページが存在するかどうかを判定するため 1 件多く検索
+        final int limit = Objects.nonNull(totalCount) ? pageRequest.getPageSize() : pageRequest.getPageSize() + 1;
+
+        return createPage(pageRequest, fetcher.apply(limit), totalCount);
+    }
+
+    /**
+     * 要素の総数を数えるクエリとページの要素を検索するクエリをエグゼキュータで同時に実行します。<br />
+     * 要素の総数を数えるかどうかは検索前に分からないため、ページの要素は常に 1 件多く検索します。
+     *
+     * @param pageRequest ページ付けの情報
+     * @param countQuery  要素を検索するクエリ（ソート順とページ付けを含まない）を生成する関数
+     * @param fetcher     検索するレコードの最大数を受け取り、ページの要素を検索する関数
+     * @return 検索結果
+     */
+    private CompletableFuture<IPage<T>> fetchPageInParallel(final IPageRequest pageRequest,
+                                                            final Supplier<? extends Select<?>> countQuery,
+                                                            final IntFunction<List<T>> fetcher) {
+        final CompletableFuture<Optional<TotalCount>> totalCount = CompletableFuture.supplyAsync(
+                () -> countTotal(countQuery), executor);
+
+        final CompletableFuture<List<T>> elements = CompletableFuture.supplyAsync(
+                () -> fetcher.apply(pageRequest.getPageSize() + 1), executor);
+
+        return totalCount.thenCombine(elements, (count, fetched) -> createPage(pageRequest, fetched, count.orElse(null)));
+    }
+
+    /**
+     * 要素の総数を数えます。<br />
+     * 要素の総数を数えない方針（{@link ITotalCountStrategy#hasNextOnly()}）の場合は、要素を検索するクエリを生成しません。
+     *
+     * @param countQuery 要素を検索するクエリ（ソート順とページ付けを含まない）を生成する関数
+     * @return 要素の総数（要素の総数を数えない場合は空）
+     */
+    private Optional<TotalCount> countTotal(final Supplier<? extends Select<?>> countQuery) {
+        if (totalCountStrategy instanceof HasNextOnlyTotalCountStrategy) {
+            return Optional.empty();
+        }
+
+        return totalCountStrategy.count(dslContext, countQuery.get());
+    }
+
+    /**
+     * ウィンドウ関数で要素の総数を数えるかどうかを判定します。<br />
+     * ウィンドウ関数は要素の総数を正確に数える場合のみ使用します。
+     *
+     * @return ウィンドウ関数で要素の総数を数える場合は {@code true}、そうではない場合は {@code false}
+     */
+    private boolean usesWindowCount() {
+        return countMode == CountMode.WINDOW
+                && totalCountStrategy instanceof ExactTotalCountStrategy
+                && supportsWindowFunctions(dslContext.dialect());
+    }
+
+    /**
+     * クエリを並列に実行できるかどうかを判定します。<br />
+     * 1 つのコネクションを共有する DSL コンテキスト（{@link DefaultConnectionProvider}）では、クエリを同時に実行できないため順番に実行します。
+     *
+     * @return クエリを並列に実行できる場合は {@code true}、そうではない場合は {@code false}
+     */
+    private boolean canRunInParallel() {
+        return parallel && !(dslContext.configuration().connectionProvider() instanceof DefaultConnectionProvider);
+    }
+
+    /**
+     * 検索結果のページを生成します。
+     *
+     * @param <T>         ページに含まれるレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param elements    検索したレコード
+     * @param totalCount  要素の総数（要素の総数を数えない場合は {@code null}）
+     * @return 検索結果のページ
+     */
+    private static <T> IPage<T> createPage(final IPageRequest pageRequest, final List<T> elements, final TotalCount totalCount) {
+        final int offset = pageRequest.getOffset();
+
+        final int pageSize = pageRequest.getPageSize();
+
+        // 次のページが存在するかどうかを判定するため、1 件多く検索している場合がある
+        final boolean hasNext = elements.size() > pageSize;
+
+        final List<T> pageElements = hasNext ? elements.subList(0, pageSize) : elements;
+
+        if (Objects.nonNull(totalCount)) {
+            if (totalCount.isExact()) {
+                return new Page<>(pageRequest, pageElements, totalCount.getValue());
+            }
+
+            // キャッシュした値や見積もった値は検索したレコードの数より少ない場合がある
+            final int minimumTotalElements = offset + pageElements.size() + (hasNext ? 1 : 0);
+
+            return new Page<>(pageRequest, pageElements, Math.max(totalCount.getValue(), minimumTotalElements), false);
+        }
+
+        if (hasNext) {
+            return new Page<>(pageRequest, pageElements, offset + pageSize + 1, false);
+        }
+
+        // 次のページが存在しない場合は、このページまでの要素の数が要素の総数
+        return new Page<>(pageRequest, pageElements, offset + pageElements.size(), !pageElements.isEmpty() || offset == 0);
+    }
+
+    /**
+     * ウィンドウ関数で要素の総数を数え、ページの要素と要素の総数を 1 つのクエリで検索します。<br />
+     * ページの要素が存在しない場合は要素の総数が分からないため、最初のページ以外では別のクエリで要素の総数を数えます。
+     *
+     * @param <R>         テーブルのレコードの型
+     * @param pageRequest ページ付けの情報
+     * @param table       検索するテーブル
+     * @param condition   検索条件
+     * @param order       ソート順
+     * @return 検索結果
+     */
+    private <R extends TableRecord<R>> IPage<T> fetchPageWithWindowCount(final IPageRequest pageRequest,
+                                                                         final Table<R> table,
+                                                                         final Condition condition,
+                                                                         final Collection<? extends OrderField<?>> order) {
+        final Field<Integer> totalCount = DSL.count().over().as(TOTAL_COUNT_FIELD_NAME);
+
+        final Result<Record> records = dslContext.select(table.asterisk(), totalCount)
+                .from(table)
+                .where(condition)
+                .orderBy(order)
+                .offset(pageRequest.getOffset())
+                .limit(pageRequest.getPageSize())
+                .fetch();
+
+        final int totalElements;
+
+        if (records.isNotEmpty()) {
+            totalElements = records.get(0).get(totalCount);
+        } else if (pageRequest.getOffset() > 0) {
+            totalElements = dslContext.fetchCount(dslContext.selectFrom(table).where(condition));
+        } else {
+            totalElements = 0;
+        }
+
+        final List<T> elements = records.into(table).into(resultClass);
 
         return new Page<>(pageRequest, elements, totalElements);
     }
 
+    /**
+     * SQL の方言がウィンドウ関数（{@code count(*) over ()}）をサポートしているかどうかを判定します。
+     *
+     * @param dialect SQL の方言
+     * @return ウィンドウ関数をサポートしている場合は {@code true}、そうではない場合は {@code false}
+     */
+    protected boolean supportsWindowFunctions(final SQLDialect dialect) {
+        return !WINDOW_FUNCTION_UNSUPPORTED_DIALECTS.contains(dialect.family());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends TableRecord<R>> SeekPage<T> fetchSeekPage(@NonNull final SeekPageRequest pageRequest,
+                                                                @NonNull final Table<R> table,
+                                                                final Condition condition,
+                                                                @NonNull final OrderField<?>... order) {
+        return fetchSeekPage(pageRequest, table, condition, List.of(order));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R extends TableRecord<R>> SeekPage<T> fetchSeekPage(@NonNull final SeekPageRequest pageRequest,
+                                                                @NonNull final Table<R> table,
+                                                                final Condition condition,
+                                                                @NonNull final Collection<? extends OrderField<?>> order) {
+        final List<Field<?>> seekFields = order.stream().<Field<?>>map(Pager::getSeekField).toList();
+
+        final List<Object> seekValues = pageRequest.getSeekValues();
+
+        if (!seekValues.isEmpty() && seekValues.size() != seekFields.size()) {
+            throw new IllegalArgumentException("シーク値の数がソート順の数と一致しません。");
+        }
+
+        final SelectSeekStepN<R> query = dslContext.selectFrom(table).where(condition).orderBy(order);
+
+        final SelectLimitStep<R> seekQuery = seekValues.isEmpty() ? query : query.seek(seekValues.toArray());
+
+        final int pageSize = pageRequest.getPageSize();
+
+        // 次のページの有無を判定するため、1 件多く検索
+        final Result<R> records = seekQuery.limit(pageSize + 1).fetch();
+
+        if (records.size() <= pageSize) {
+            return new SeekPage<>(pageRequest, records.into(resultClass), null);
+        }
+
+        final R lastRecord = records.get(pageSize - 1);
+
+        final List<T> elements = records.into(resultClass).subList(0, pageSize);
+
+        return new SeekPage<>(pageRequest, elements, pageRequest.next(seekFields.stream().<Object>map(lastRecord::get).toList()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -111,19 +459,113 @@ public class Pager<T> implements IPager<T> {
     public IPage<T> fetchPageBySqlFile(@NonNull final IPageRequest pageRequest,
                                        @NonNull final Path sqlFilePath,
                                        @NonNull final Map<String, Object> params) {
-        final ISqlFileSelect select = new SqlFileSelect(dslContext, sqlFilePath, params);
+        final PagingSqlFileSelect select = new PagingSqlFileSelect(dslContext, sqlFilePath, params, pageRequest);
+
+        return fetchCountAndPage(pageRequest, select::getCountQuery, limit -> select.fetchPage(limit, resultClass));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletionStage<IPage<T>> fetchPageBySqlFileAsync(@NonNull final IPageRequest pageRequest,
+                                                             @NonNull final Path sqlFilePath) {
+        return fetchPageBySqlFileAsync(pageRequest, sqlFilePath, Collections.emptyMap());
+    }
 
-        final Query query = select.getQuery();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletionStage<IPage<T>> fetchPageBySqlFileAsync(@NonNull final IPageRequest pageRequest,
+                                                             @NonNull final Path sqlFilePath,
+                                                             @NonNull final Map<String, Object> params) {
+        if (!canRunInParallel()) {
+            return CompletableFuture.supplyAsync(() -> fetchPageBySqlFile(pageRequest, sqlFilePath, params), executor);
+        }
+
+        final PagingSqlFileSelect select = new PagingSqlFileSelect(dslContext, sqlFilePath, params, pageRequest);
+
+        return fetchPageInParallel(pageRequest, select::getCountQuery, limit -> select.fetchPage(limit, resultClass));
+    }
+
+    /**
+     * シーク値を取得するフィールドを取得します。
+     *
+     * @param orderField ソート順
+     * @return シーク値を取得するフィールド
+     * @throws IllegalArgumentException ソート順がフィールド、またはフィールドのソート順ではない場合
+     */
+    private static Field<?> getSeekField(final OrderField<?> orderField) throws IllegalArgumentException {
+        return switch (orderField) {
+            case final SortField<?> sortField -> sortField.$field();
+            case final Field<?> field -> field;
+            default -> throw new IllegalArgumentException(orderField + " はフィールド、またはフィールドのソート順ではありません。");
+        };
+    }
 
-        final Table<Record> table = DSL.table('(' + query.getSQL() + ')', query.getBindValues().toArray());
+    /**
+     * ページング検索で使用する SQL ファイルの検索です。<br />
+     * 要素の総数を数えるクエリはページ付けのパラメータ（{@code offset} と {@code limit}）を除いて SQL ファイルを適用した SQL から、
+     * ページの要素を検索するクエリはページ付けのパラメータを整数の値で追加して SQL ファイルを適用した SQL から生成します。
+     * そのため、要素の総数を数える場合は SQL ファイルを 2 回適用しますが、SQL ファイルの解析結果は {@link jp.co.nextcolors.framework.jdbc.query.SqlTemplateCache} に
+     * キャッシュしているため、解析は行わずパラメータの適用のみを行います。
+     *
+     * @author hamana
+     */
+    private static final class PagingSqlFileSelect extends SqlFileSelect {
+        /**
+         * 要素の取得を開始する位置です。
+         */
+        private final int offset;
 
-        final int totalElements = dslContext.fetchCount(table.as("t"));
+        /**
+         * @param dslContext  DSL コンテキスト
+         * @param sqlFilePath SQL ファイルのパス
+         * @param params      パラメータ
+         * @param pageRequest ページ付けの情報
+         */
+        private PagingSqlFileSelect(final DSLContext dslContext,
+                                    final Path sqlFilePath,
+                                    final Map<String, Object> params,
+                                    final IPageRequest pageRequest) {
+            super(dslContext, sqlFilePath, params);
 
-        select.addParameter("offset", pageRequest.getOffset());
-        select.addParameter("limit", pageRequest.getPageSize());
+            offset = pageRequest.getOffset();
+        }
 
-        final List<T> elements = select.fetch().map(new BeanRecordMapper<>(resultClass, dslContext.configuration()));
+        /**
+         * 要素の総数を数える対象のクエリを取得します。<br />
+         * ページ付けのパラメータを適用しないため、{@code IF} コメントで囲んだページ付けの句は出力されません。
+         *
+         * @return 要素の総数を数える対象のクエリ
+         */
+        private Select<Record> getCountQuery() {
+            final ExecutionContext executionContext = createExecutionContext();
 
-        return new Page<>(pageRequest, elements, totalElements);
+            final Table<Record> table = DSL.table('(' + executionContext.getExecutableSql() + ')', executionContext.getBindVariables());
+
+            return dslContext.selectFrom(table.as("t"));
+        }
+
+        /**
+         * ページ付けのパラメータを追加して SQL ファイルを適用し、ページの要素を検索します。<br />
+         * 要素の総数を数えるクエリと並列に実行する場合があるため、パラメータはコピーしてから追加します。
+         *
+         * @param <E>         ページに含まれるレコードの型
+         * @param limit       検索するレコードの最大数
+         * @param resultClass ページに含まれるレコードの型を表すクラス
+         * @return ページの要素
+         */
+        private <E> List<E> fetchPage(final int limit, final Class<E> resultClass) {
+            final Map<String, Object> pageParams = HashMap.newHashMap(params.size() + 2);
+            pageParams.putAll(params);
+            pageParams.put("offset", offset);
+            pageParams.put("limit", limit);
+
+            final ExecutionContext executionContext = createExecutionContext(pageParams);
+
+            return dslContext.resultQuery(executionContext.getExecutableSql(), executionContext.getBindVariables()).fetchInto(resultClass);
+        }
     }
 }
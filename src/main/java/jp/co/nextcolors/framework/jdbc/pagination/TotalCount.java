@@ -0,0 +1,63 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@link ITotalCountStrategy} で数えた要素の総数です。
+ *
+ * @author hamana
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class TotalCount {
+    /**
+     * 要素の総数です。
+     */
+    private final int value;
+
+    /**
+     * 要素の総数が正確であるかどうかです。
+     */
+    private final boolean exact;
+
+    /**
+     * 正確な要素の総数を取得します。
+     *
+     * @param value 要素の総数
+     * @return 正確な要素の総数
+     */
+    public static TotalCount exact(final int value) {
+        return new TotalCount(value, true);
+    }
+
+    /**
+     * おおよその要素の総数（キャッシュした値や統計情報から見積もった値）を取得します。
+     *
+     * @param value 要素の総数
+     * @return おおよその要素の総数
+     */
+    public static TotalCount approximate(final int value) {
+        return new TotalCount(value, false);
+    }
+}
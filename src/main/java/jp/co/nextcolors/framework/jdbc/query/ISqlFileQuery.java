@@ -20,12 +20,14 @@ import java.util.Map;
 import org.jooq.Query;
 
 /**
- * SQL ファイルを使用して問い合わせ行うためのベースとなるインターフェースです。
+ * SQL ファイルを使用して問い合わせ行うためのベースとなるインターフェースです。<br />
+ * {@link AutoCloseable} ですが、クローズが必要なのは {@link #setKeepStatement(boolean)} でステートメントを保持する場合のみです。
+ * ステートメントを保持しない場合、{@link #close()} は何もしないため、try-with-resources 文で囲む必要はありません。
  *
  * @param <S> {@link ISqlFileQuery} のサブタイプです。
  * @author hamana
  */
-public interface ISqlFileQuery<S extends ISqlFileQuery<S>> {
+public interface ISqlFileQuery<S extends ISqlFileQuery<S>> extends AutoCloseable {
     /**
      * パラメータを追加します。
      *
@@ -57,4 +59,37 @@ public interface ISqlFileQuery<S extends ISqlFileQuery<S>> {
      * @return クエリ
      */
     Query getQuery();
+
+    /**
+     * 実行したクエリの {@link java.sql.PreparedStatement} を保持するかどうかを設定します。<br />
+     * 保持する場合、適用した SQL が前回と同じであれば前回のクエリを再利用してバインド変数の値のみを置き換えるため、
+     * 同じインスタンスで繰り返し実行するときに JDBC ドライバとデータベースはステートメントの準備を省略できます。
+     * IN 句に展開するパラメータ（{@link java.util.Collection} や配列）を含む SQL は IN 句を展開した後の SQL で比較するため、
+     * {@link InListStrategy#PADDING} や {@link InListStrategy#ARRAY} で SQL が変わらない IN 句は再利用し、
+     * 要素の数によって SQL が変わる IN 句は要素の数が同じ場合のみ再利用します。<br />
+     * ステートメントはコネクションとともに保持するため、使い終わったら {@link #close()} でクローズしてください。
+     * 再利用の状況は {@link SqlStatementStatistics} で確認できます。<br />
+     * 再利用するクエリはこのインスタンスで 1 つだけ保持し、次の実行でバインド変数の値をその場で置き換えます。
+     * そのため、ステートメントを保持するインスタンスは 1 つのスレッドから順番に使用してください。
+     * 非同期の実行（{@code fetchAsync} など）の完了や、遅延取得した結果（{@code fetchLazy}、{@code fetchStream} など）のクローズの前に
+     * 次の実行を行うと、実行中のクエリのバインド変数の値が置き換えられます。
+     *
+     * デフォルトの実装はステートメントを保持せず、このインスタンス自身を返します。
+     *
+     * @param keepStatement ステートメントを保持する場合は {@code true}
+     * @return このインスタンス自身
+     */
+    @SuppressWarnings("unchecked")
+    default S setKeepStatement(final boolean keepStatement) {
+        return (S) this;
+    }
+
+    /**
+     * 保持しているステートメントをクローズします。<br />
+     * ステートメントを保持していない場合（{@link #setKeepStatement(boolean)} で {@code true} を設定していない場合）は何もしません。
+     * デフォルトの実装は何もしません。
+     */
+    @Override
+    default void close() {
+    }
 }
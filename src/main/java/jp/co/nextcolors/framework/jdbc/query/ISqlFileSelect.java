@@ -15,13 +15,23 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jooq.Cursor;
 import org.jooq.Record;
+import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
 
 import lombok.NonNull;
 
+import jp.co.nextcolors.framework.jdbc.record.mapper.BeanRecordMapper;
+
 /**
  * SQL ファイルを使用した検索です。
  *
@@ -34,6 +44,25 @@ public interface ISqlFileSelect extends ISqlFileQuery<ISqlFileSelect> {
     @Override
     ResultQuery<Record> getQuery();
 
+    /**
+     * JDBC のフェッチサイズを設定します。<br />
+     * {@link #fetchLazy()}、{@link #fetchStream()}、{@link #forEach(Consumer)} で一度に取得する行数の目安として JDBC ドライバに渡します。
+     * {@code 0} の場合は JDBC ドライバのデフォルト値を使用します。<br />
+     * JDBC ドライバによっては、自動コミットを無効にしないとフェッチサイズが適用されません（PostgreSQL など）。<br />
+     * フェッチサイズは JDBC ドライバへのヒントのため、デフォルトの実装は値の検証のみを行い、JDBC ドライバのデフォルト値を使用します。
+     *
+     * @param fetchSize JDBC のフェッチサイズ
+     * @return このインスタンス自身
+     * @throws IllegalArgumentException フェッチサイズが負の値の場合
+     */
+    default ISqlFileSelect setFetchSize(final int fetchSize) throws IllegalArgumentException {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("フェッチサイズが負の値です。");
+        }
+
+        return this;
+    }
+
     /**
      * レコードを検索します。
      *
@@ -75,4 +104,141 @@ public interface ISqlFileSelect extends ISqlFileQuery<ISqlFileSelect> {
     default <R extends Record> Result<R> fetchInto(@NonNull final Table<R> table) {
         return getQuery().fetchInto(table);
     }
+
+    /**
+     * レコードを検索し、検索結果を 1 行ずつ読み込むカーソルを取得します。<br />
+     * カーソルはコネクションを保持するため、try-with-resources 文で必ずクローズしてください。
+     *
+     * @return 検索結果のカーソル
+     */
+    default Cursor<Record> fetchLazy() {
+        return getQuery().fetchLazy();
+    }
+
+    /**
+     * レコードを検索し、検索結果を 1 行ずつ読み込むストリームを取得します。<br />
+     * ストリームはコネクションを保持するため、try-with-resources 文で必ずクローズしてください。
+     *
+     * @return 検索結果のストリーム
+     */
+    default Stream<Record> fetchStream() {
+        return getQuery().fetchStream();
+    }
+
+    /**
+     * レコードを検索し、検索結果を 1 行ずつ処理します。<br />
+     * 処理が終わると、カーソルとコネクションはクローズします。
+     * {@link org.jooq.RecordHandler} も指定できます。
+     *
+     * @param handler レコードを処理するハンドラ
+     */
+    default void forEach(@NonNull final Consumer<? super Record> handler) {
+        try (final Cursor<Record> cursor = fetchLazy()) {
+            cursor.forEach(handler);
+        }
+    }
+
+    /**
+     * レコードを検索します。<br />
+     * 検索結果のレコードは指定した Bean（JavaBeans）に変換します。
+     *
+     * @param <B>       Bean（JavaBeans）の型
+     * @param beanClass Bean（JavaBeans）の型を表すクラス
+     * @return 検索結果
+     */
+    default <B> B fetchOneInto(@NonNull final Class<B> beanClass) {
+        final ResultQuery<Record> query = getQuery();
+
+        return new BeanRecordMapper<Record, B>(beanClass, query.configuration()).map(query.fetchOne());
+    }
+
+    /**
+     * レコードを検索します。<br />
+     * 検索結果のレコードはカーソルから 1 行ずつ読み込み、指定した Bean（JavaBeans）に変換します。
+     * {@link Result} を経由しないため、検索結果をメモリに二重に保持しません。
+     *
+     * @param <B>       Bean（JavaBeans）の型
+     * @param beanClass Bean（JavaBeans）の型を表すクラス
+     * @return 検索結果
+     */
+    default <B> List<B> fetchInto(@NonNull final Class<B> beanClass) {
+        final ResultQuery<Record> query = getQuery();
+
+        final RecordMapper<Record, B> mapper = new BeanRecordMapper<>(beanClass, query.configuration());
+
+        try (final Cursor<Record> cursor = query.fetchLazy()) {
+            return cursor.stream().map(mapper::map).toList();
+        }
+    }
+
+    /**
+     * レコードを検索し、検索結果を 1 行ずつ Bean（JavaBeans）に変換するストリームを取得します。<br />
+     * ストリームはコネクションを保持するため、try-with-resources 文で必ずクローズしてください。
+     *
+     * @param <B>       Bean（JavaBeans）の型
+     * @param beanClass Bean（JavaBeans）の型を表すクラス
+     * @return 検索結果のストリーム
+     */
+    default <B> Stream<B> fetchStreamInto(@NonNull final Class<B> beanClass) {
+        final ResultQuery<Record> query = getQuery();
+
+        final RecordMapper<Record, B> mapper = new BeanRecordMapper<>(beanClass, query.configuration());
+
+        return query.fetchStream().map(mapper::map);
+    }
+
+    /**
+     * レコードを非同期に検索します。<br />
+     * jOOQ の非同期実行で、設定（{@link org.jooq.Configuration#executorProvider()}）のエグゼキュータを使用します。
+     *
+     * @return 検索結果
+     */
+    default CompletionStage<Result<Record>> fetchAsync() {
+        return getQuery().fetchAsync();
+    }
+
+    /**
+     * 指定したエグゼキュータでレコードを非同期に検索します。<br />
+     * 仮想スレッドのエグゼキュータ（{@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}）を指定すると、
+     * 検索の完了を待つ間にプラットフォームスレッドを占有しません。
+     *
+     * @param executor 検索を実行するエグゼキュータ
+     * @return 検索結果
+     */
+    default CompletionStage<Result<Record>> fetchAsync(@NonNull final Executor executor) {
+        return getQuery().fetchAsync(executor);
+    }
+
+    /**
+     * レコードを非同期に検索します。<br />
+     * {@link #fetchAsync()} の検索結果のレコードを、指定した Bean（JavaBeans）に変換します。
+     *
+     * @param <B>       Bean（JavaBeans）の型
+     * @param beanClass Bean（JavaBeans）の型を表すクラス
+     * @return 検索結果
+     */
+    default <B> CompletionStage<List<B>> fetchIntoAsync(@NonNull final Class<B> beanClass) {
+        final ResultQuery<Record> query = getQuery();
+
+        final RecordMapper<Record, B> mapper = new BeanRecordMapper<>(beanClass, query.configuration());
+
+        return query.fetchAsync().thenApply(result -> result.map(mapper));
+    }
+
+    /**
+     * 指定したエグゼキュータでレコードを非同期に検索します。<br />
+     * {@link #fetchAsync(Executor)} の検索結果のレコードを、指定した Bean（JavaBeans）に変換します。
+     *
+     * @param <B>       Bean（JavaBeans）の型
+     * @param beanClass Bean（JavaBeans）の型を表すクラス
+     * @param executor  検索を実行するエグゼキュータ
+     * @return 検索結果
+     */
+    default <B> CompletionStage<List<B>> fetchIntoAsync(@NonNull final Class<B> beanClass, @NonNull final Executor executor) {
+        final ResultQuery<Record> query = getQuery();
+
+        final RecordMapper<Record, B> mapper = new BeanRecordMapper<>(beanClass, query.configuration());
+
+        return query.fetchAsync(executor).thenApply(result -> result.map(mapper));
+    }
 }
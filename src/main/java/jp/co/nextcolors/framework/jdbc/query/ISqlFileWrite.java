@@ -15,12 +15,24 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import lombok.NonNull;
+
 /**
  * SQL ファイルを使用した書き込み（挿入/更新/削除）です。
  *
  * @author hamana
  */
 public interface ISqlFileWrite extends ISqlFileQuery<ISqlFileWrite> {
+    /**
+     * バッチ実行でまとめて送信する行数のデフォルト値です。
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * レコードを書き込みます。
      *
@@ -29,4 +41,66 @@ public interface ISqlFileWrite extends ISqlFileQuery<ISqlFileWrite> {
     default int execute() {
         return getQuery().execute();
     }
+
+    /**
+     * レコードを非同期に書き込みます。<br />
+     * jOOQ の非同期実行で、設定（{@link org.jooq.Configuration#executorProvider()}）のエグゼキュータを使用します。
+     *
+     * @return レコードの書き込み件数
+     */
+    default CompletionStage<Integer> executeAsync() {
+        return getQuery().executeAsync();
+    }
+
+    /**
+     * 指定したエグゼキュータでレコードを非同期に書き込みます。<br />
+     * 書き込みは呼び出し元のスレッドのトランザクションには参加しません。
+     *
+     * @param executor 書き込みを実行するエグゼキュータ
+     * @return レコードの書き込み件数
+     */
+    default CompletionStage<Integer> executeAsync(@NonNull final Executor executor) {
+        return getQuery().executeAsync(executor);
+    }
+
+    /**
+     * パラメータの組ごとにレコードを書き込みます。<br />
+     * {@link #executeBatch(Iterable, int)} をバッチサイズ {@value #DEFAULT_BATCH_SIZE} で実行します。
+     *
+     * @param batchParams 行ごとのパラメータ
+     * @return 行ごとのレコードの書き込み件数
+     */
+    default int[] executeBatch(@NonNull final Iterable<? extends Map<String, Object>> batchParams) {
+        return executeBatch(batchParams, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * パラメータの組ごとにレコードを書き込みます。<br />
+     * 行ごとのパラメータは設定済みのパラメータを上書きして適用します。
+     * SQL が同じになる連続した行は 1 つの {@link java.sql.PreparedStatement} にバインドし、JDBC のバッチ実行で送信します。<br />
+     * SQL ファイルの解析結果はキャッシュしていますが、{@code IF} コメントなどの条件はパラメータの値によって変わり得るため、
+     * 解析結果へのパラメータの適用（SQL の生成）は行ごとに行います。<br />
+     * 複数のバッチを 1 つのトランザクションで実行する場合は、トランザクションの中で呼び出してください。<br />
+     * デフォルトの実装は JDBC のバッチ実行を使用せず、行ごとのパラメータを {@link #addParameters(Map)} で追加して 1 行ずつ書き込みます
+     * （追加したパラメータは書き込み後も残ります）。
+     *
+     * @param batchParams 行ごとのパラメータ
+     * @param batchSize   1 回のバッチ実行で送信する行数の上限
+     * @return 行ごとのレコードの書き込み件数（JDBC ドライバが件数を返さない場合は {@link java.sql.Statement#SUCCESS_NO_INFO}）
+     * @throws IllegalArgumentException バッチサイズが 1 未満の場合
+     */
+    default int[] executeBatch(@NonNull final Iterable<? extends Map<String, Object>> batchParams, final int batchSize)
+            throws IllegalArgumentException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("バッチサイズが 1 未満です。");
+        }
+
+        final IntStream.Builder rowCounts = IntStream.builder();
+
+        for (final Map<String, Object> rowParams : batchParams) {
+            rowCounts.add(addParameters(rowParams).execute());
+        }
+
+        return rowCounts.build().toArray();
+    }
 }
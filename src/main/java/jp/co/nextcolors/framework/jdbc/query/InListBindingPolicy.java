@@ -0,0 +1,148 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jooq.SQLDialect;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * コレクションや配列のパラメータを IN 句にバインドする方針です。<br />
+ * 要素の数が閾値未満の場合は {@link InListStrategy#EXPAND}、閾値以上の場合は SQL の方言ごとに設定した方法でバインドします。
+ *
+ * <pre>{@code
+ * // 16 要素以上の場合、PostgreSQL では配列、それ以外の SQL の方言では 2 のべき乗に切り上げてバインド
+ * InListBindingPolicy.setDefault(InListBindingPolicy.of(InListStrategy.PADDING, 16)
+ *         .withDialectStrategy(SQLDialect.POSTGRES, InListStrategy.ARRAY));
+ * }</pre>
+ *
+ * @author hamana
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class InListBindingPolicy {
+    /**
+     * 常に要素ごとにバインド変数を展開する方針です。
+     */
+    private static final InListBindingPolicy EXPAND = new InListBindingPolicy(InListStrategy.EXPAND, Map.of(), Integer.MAX_VALUE);
+
+    /**
+     * {@link SqlFileQuery} が使用する方針です。
+     */
+    private static volatile InListBindingPolicy defaultPolicy = EXPAND;
+
+    /**
+     * 要素の数が閾値以上の場合にバインドする方法です。
+     */
+    @NonNull
+    private final InListStrategy strategy;
+
+    /**
+     * 要素の数が閾値以上の場合にバインドする SQL の方言ごとの方法です。
+     */
+    @NonNull
+    private final Map<SQLDialect, InListStrategy> dialectStrategies;
+
+    /**
+     * {@link #strategy} でバインドする要素の数の閾値です。
+     */
+    private final int threshold;
+
+    /**
+     * 常に要素ごとにバインド変数を展開する方針を取得します。
+     *
+     * @return 常に要素ごとにバインド変数を展開する方針
+     */
+    public static InListBindingPolicy expand() {
+        return EXPAND;
+    }
+
+    /**
+     * 要素の数が閾値以上の場合に指定した方法でバインドする方針を取得します。
+     *
+     * @param strategy  要素の数が閾値以上の場合にバインドする方法
+     * @param threshold 指定した方法でバインドする要素の数の閾値
+     * @return 要素の数が閾値以上の場合に指定した方法でバインドする方針
+     * @throws IllegalArgumentException 閾値が負の値の場合
+     */
+    public static InListBindingPolicy of(@NonNull final InListStrategy strategy, final int threshold) throws IllegalArgumentException {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("要素の数の閾値が負の値です。");
+        }
+
+        return new InListBindingPolicy(strategy, Map.of(), threshold);
+    }
+
+    /**
+     * {@link SqlFileQuery} が使用する方針を取得します。
+     *
+     * @return {@link SqlFileQuery} が使用する方針
+     */
+    public static InListBindingPolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * {@link SqlFileQuery} が使用する方針を設定します。<br />
+     * デフォルトは {@link #expand()} です。
+     *
+     * @param policy {@link SqlFileQuery} が使用する方針
+     */
+    public static void setDefault(@NonNull final InListBindingPolicy policy) {
+        defaultPolicy = policy;
+    }
+
+    /**
+     * 指定した SQL の方言で要素の数が閾値以上の場合にバインドする方法を変更した方針を取得します。
+     *
+     * @param dialect  SQL の方言
+     * @param strategy 要素の数が閾値以上の場合にバインドする方法
+     * @return バインドする方法を変更した方針
+     */
+    public InListBindingPolicy withDialectStrategy(@NonNull final SQLDialect dialect, @NonNull final InListStrategy strategy) {
+        final Map<SQLDialect, InListStrategy> dialectStrategies = new EnumMap<>(SQLDialect.class);
+        dialectStrategies.putAll(this.dialectStrategies);
+        dialectStrategies.put(dialect.family(), strategy);
+
+        return new InListBindingPolicy(this.strategy, Map.copyOf(dialectStrategies), threshold);
+    }
+
+    /**
+     * 要素をバインドする方法を選択します。
+     *
+     * @param dialect SQL の方言
+     * @param size    要素の数
+     * @return 要素をバインドする方法
+     */
+    public InListStrategy selectStrategy(final SQLDialect dialect, final int size) {
+        if (size < threshold) {
+            return InListStrategy.EXPAND;
+        }
+
+        return Objects.isNull(dialect) ? strategy : dialectStrategies.getOrDefault(dialect.family(), strategy);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+/**
+ * コレクションや配列のパラメータを IN 句にバインドする方法です。<br />
+ * SQL ファイルには <code>id IN (/*ids*&#47;1)</code> のように、括弧の中にパラメータを記述します。
+ *
+ * @author hamana
+ */
+public enum InListStrategy {
+    /**
+     * 要素ごとにバインド変数を展開します（{@code IN (?, ?, ?)}）。<br />
+     * 要素の数ごとに SQL が変わります。
+     */
+    EXPAND,
+
+    /**
+     * 要素の数を 2 のべき乗に切り上げ、最後の要素を繰り返してバインド変数を展開します（{@code IN (?, ?, ?, ?)}）。<br />
+     * 要素の数が変わっても SQL の種類は要素の数の対数程度に抑えられるため、ステートメントのキャッシュが効きやすくなります。
+     */
+    PADDING,
+
+    /**
+     * 要素を 1 つの SQL の配列としてバインドし、{@code unnest} で展開します（{@code IN (select * from unnest(?))}）。<br />
+     * 要素の数によらず SQL は変わりません。配列型と {@code unnest} をサポートしている SQL の方言（PostgreSQL、H2、HSQLDB など）でのみ使用できます。
+     * 要素の型が揃っていない場合や、すべての要素が {@code null} の場合は {@link #EXPAND} でバインドします。
+     */
+    ARRAY
+}
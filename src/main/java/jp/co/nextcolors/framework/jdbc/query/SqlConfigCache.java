@@ -0,0 +1,99 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.ToString;
+
+/**
+ * uroboroSQL の SQL の設定（{@link SqlConfig}）のキャッシュです。<br />
+ * SQL の設定は jOOQ の SQL の方言ごとに一度だけコネクションを取得して生成し、以降は SQL ファイルを処理する際にコネクションを取得しません。<br />
+ * jOOQ の SQL の方言が {@link SQLDialect#DEFAULT} の場合はデータベースを特定できないため、キャッシュせずに毎回生成します。
+ *
+ * @author hamana
+ */
+@ToString
+public class SqlConfigCache {
+    /**
+     * {@link SqlFileQuery} が共有するキャッシュです。
+     */
+    private static final SqlConfigCache INSTANCE = new SqlConfigCache();
+
+    /**
+     * jOOQ の SQL の方言ごとの SQL の設定です。
+     */
+    private final Map<SQLDialect, SqlConfig> sqlConfigs = new ConcurrentHashMap<>();
+
+    /**
+     * {@link SqlFileQuery} が共有するキャッシュを取得します。
+     *
+     * @return {@link SqlFileQuery} が共有するキャッシュ
+     */
+    public static SqlConfigCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * DSL コンテキストの SQL の方言に対応する SQL の設定を取得します。<br />
+     * SQL の設定はコネクションの生成に使用しないため、取得した SQL の設定でクエリを実行しないでください。
+     *
+     * @param dslContext DSL コンテキスト
+     * @return SQL の設定
+     */
+    public SqlConfig get(@NonNull final DSLContext dslContext) {
+        final SQLDialect dialect = dslContext.dialect();
+
+        if (Objects.isNull(dialect) || dialect.family() == SQLDialect.DEFAULT) {
+            return create(dslContext);
+        }
+
+        return sqlConfigs.computeIfAbsent(dialect, key -> create(dslContext));
+    }
+
+    /**
+     * SQL の設定を生成します。<br />
+     * uroboroSQL が SQL の方言を判定するため、コネクションを一時的に取得します。
+     *
+     * @param dslContext DSL コンテキスト
+     * @return SQL の設定
+     */
+    @SneakyThrows(SQLException.class)
+    protected SqlConfig create(final DSLContext dslContext) {
+        try (final Connection connection = dslContext.configuration().connectionProvider().acquire()) {
+            return UroboroSQL.builder(connection).build();
+        }
+    }
+
+    /**
+     * すべての SQL の設定をキャッシュから破棄します。
+     */
+    public void invalidateAll() {
+        sqlConfigs.clear();
+    }
+}
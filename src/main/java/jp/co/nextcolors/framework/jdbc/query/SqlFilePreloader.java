@@ -0,0 +1,215 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FilenameUtils;
+import org.jooq.DSLContext;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * アプリケーションの起動時に SQL ファイルを解析し、テンプレートをキャッシュに格納するクラスです。<br />
+ * 最初のクエリで SQL ファイルを読み込んで解析するコストを起動時に前倒しし、SQL ファイルの構文エラーを起動時に検出します。
+ *
+ * <pre>{@code
+ * SqlFilePreloader preloader = new SqlFilePreloader(dslContext, SqlFilePreloader.FailureMode.FAIL_FAST);
+ *
+ * // ファイルシステム上のディレクトリ配下の SQL ファイル
+ * preloader.preload(Path.of("sql"));
+ *
+ * // SqlTemplateCache に設定したレジストリ（クラスパスなど）の SQL ファイル
+ * preloader.preloadRegistry();
+ * }</pre>
+ *
+ * SQL ファイルのパスはクエリで指定するパスと同じ形式で指定してください。
+ * SQL ファイルの数がキャッシュの上限を超える場合、先に解析したテンプレートから破棄されます。
+ *
+ * @author hamana
+ */
+@Slf4j
+@AllArgsConstructor
+@ToString
+public class SqlFilePreloader {
+    /**
+     * SQL ファイルの拡張子です。
+     */
+    private static final String SQL_FILE_EXTENSION = "sql";
+
+    /**
+     * DSL コンテキストです。
+     */
+    @NonNull
+    private final DSLContext dslContext;
+
+    /**
+     * テンプレートを格納するキャッシュです。
+     */
+    @NonNull
+    private final SqlTemplateCache cache;
+
+    /**
+     * SQL ファイルの解析に失敗した場合の動作です。
+     */
+    @NonNull
+    private final FailureMode failureMode;
+
+    /**
+     * {@link SqlFileQuery} が共有するキャッシュにテンプレートを格納するインスタンスを生成します。
+     *
+     * @param dslContext DSL コンテキスト
+     * @param failureMode SQL ファイルの解析に失敗した場合の動作
+     */
+    public SqlFilePreloader(@NonNull final DSLContext dslContext, @NonNull final FailureMode failureMode) {
+        this(dslContext, SqlTemplateCache.getInstance(), failureMode);
+    }
+
+    /**
+     * ディレクトリ配下のすべての SQL ファイルを解析し、テンプレートをキャッシュに格納します。
+     *
+     * @param directory SQL ファイルを検索するディレクトリ
+     * @return 解析の結果
+     * @throws IllegalStateException {@link FailureMode#FAIL_FAST} で SQL ファイルの解析に失敗した場合
+     */
+    @SneakyThrows(IOException.class)
+    public Report preload(@NonNull final Path directory) throws IllegalStateException {
+        final List<Path> sqlFilePaths;
+
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            sqlFilePaths = paths.filter(Files::isRegularFile)
+                    .filter(path -> FilenameUtils.isExtension(path.getFileName().toString(), SQL_FILE_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+
+        return preload(sqlFilePaths);
+    }
+
+    /**
+     * キャッシュに設定したレジストリのすべての SQL ファイルを解析し、テンプレートをキャッシュに格納します。
+     *
+     * @return 解析の結果
+     * @throws IllegalStateException {@link FailureMode#FAIL_FAST} で SQL ファイルの解析に失敗した場合
+     */
+    public Report preloadRegistry() throws IllegalStateException {
+        return preload(cache.getRegistry().getSqlFilePaths().stream().sorted().toList());
+    }
+
+    /**
+     * 指定した SQL ファイルを解析し、テンプレートをキャッシュに格納します。
+     *
+     * @param sqlFilePaths SQL ファイルのパス
+     * @return 解析の結果
+     * @throws IllegalStateException {@link FailureMode#FAIL_FAST} で SQL ファイルの解析に失敗した場合
+     */
+    public Report preload(@NonNull final Collection<Path> sqlFilePaths) throws IllegalStateException {
+        if (sqlFilePaths.size() > cache.getMaximumSize()) {
+            log.atWarn().log("SQL ファイルの数（{}）がキャッシュの上限（{}）を超えています。", sqlFilePaths.size(), cache.getMaximumSize());
+        }
+
+        final SqlConfig sqlConfig = SqlConfigCache.getInstance().get(dslContext);
+
+        final List<Path> loadedSqlFilePaths = new ArrayList<>();
+        final Map<Path, Exception> failures = new LinkedHashMap<>();
+
+        for (final Path sqlFilePath : sqlFilePaths) {
+            try {
+                cache.get(sqlFilePath, sqlConfig);
+
+                loadedSqlFilePaths.add(sqlFilePath);
+            } catch (final Exception e) {
+                if (failureMode == FailureMode.FAIL_FAST) {
+                    throw new IllegalStateException(sqlFilePath + " の解析に失敗しました。", e);
+                }
+
+                log.atError().setCause(e).log("{} の解析に失敗しました。", sqlFilePath);
+
+                failures.put(sqlFilePath, e);
+            }
+        }
+
+        log.atInfo().log("{} 件の SQL ファイルを解析しました（失敗: {} 件）。", loadedSqlFilePaths.size(), failures.size());
+
+        return new Report(Collections.unmodifiableList(loadedSqlFilePaths), Collections.unmodifiableMap(failures));
+    }
+
+    /**
+     * SQL ファイルの解析に失敗した場合の動作です。
+     *
+     * @author hamana
+     */
+    public enum FailureMode {
+        /**
+         * 最初に解析に失敗した時点で例外をスローします。<br />
+         * 構文エラーのある SQL ファイルを含むアプリケーションの起動を中止する場合に使用します。
+         */
+        FAIL_FAST,
+
+        /**
+         * 解析に失敗した SQL ファイルをログに出力し、残りの SQL ファイルの解析を続けます。
+         */
+        LOG_AND_CONTINUE
+    }
+
+    /**
+     * SQL ファイルの解析の結果です。
+     *
+     * @author hamana
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    @ToString
+    public static final class Report {
+        /**
+         * 解析に成功した SQL ファイルのパスです。
+         */
+        @NonNull
+        private final List<Path> loadedSqlFilePaths;
+
+        /**
+         * 解析に失敗した SQL ファイルのパスと例外です。
+         */
+        @NonNull
+        private final Map<Path, Exception> failures;
+
+        /**
+         * 解析に失敗した SQL ファイルが存在するかどうかを判定します。
+         *
+         * @return 解析に失敗した SQL ファイルが存在する場合は {@code true}、それ以外の場合は {@code false}
+         */
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+    }
+}
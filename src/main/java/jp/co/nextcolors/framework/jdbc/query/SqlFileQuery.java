@@ -15,33 +15,34 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
-import java.io.IOException;
-import java.nio.file.Files;
+import java.lang.reflect.Array;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.function.BiFunction;
 
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.QueryPart;
 import org.jooq.impl.DSL;
 
-import jp.co.future.uroborosql.UroboroSQL;
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.context.ExecutionContext;
 import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.parser.ContextTransformer;
-import jp.co.future.uroborosql.parser.SqlParser;
-import jp.co.future.uroborosql.parser.SqlParserImpl;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /**
@@ -50,7 +51,7 @@ import lombok.ToString;
  * @param <S> {@link ISqlFileQuery} のサブタイプです。
  * @author hamana
  */
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
 @EqualsAndHashCode
 public abstract class SqlFileQuery<S extends ISqlFileQuery<S>> implements ISqlFileQuery<S> {
@@ -71,6 +72,26 @@ public abstract class SqlFileQuery<S extends ISqlFileQuery<S>> implements ISqlFi
      */
     protected final Map<String, Object> params = new HashMap<>();
 
+    /**
+     * 実行したクエリのステートメントを保持するかどうかです。
+     */
+    @Getter
+    private boolean keepStatement;
+
+    /**
+     * ステートメントを保持しているクエリです。
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Query keptQuery;
+
+    /**
+     * ステートメントを保持しているクエリの SQL です。
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String keptSql;
+
     /**
      * @param dslContext  DSL コンテキスト
      * @param sqlFilePath SQL ファイルのパス
@@ -89,49 +110,253 @@ public abstract class SqlFileQuery<S extends ISqlFileQuery<S>> implements ISqlFi
      * @return SQL にバインドするパラメータ
      */
     protected Map<String, Object> createBindParameters() {
-        final Map<String, Object> params = new HashMap<>();
+        return createBindParameters(params);
+    }
+
+    /**
+     * 指定したパラメータから SQL にバインドするパラメータを生成します。<br />
+     * コレクションや配列のパラメータは {@link InListBindingPolicy#getDefault()} の方針で IN 句にバインドするクエリ部品に変換します。
+     * 変換するパラメータがない場合は、指定したパラメータをコピーせずに変更不可のビューを返します。
+     *
+     * @param params パラメータ
+     * @return SQL にバインドするパラメータ
+     */
+    protected Map<String, Object> createBindParameters(@NonNull final Map<String, Object> params) {
+        if (!hasInListParameter(params)) {
+            return Collections.unmodifiableMap(params);
+        }
+
+        final Map<String, Object> bindParams = HashMap.newHashMap(params.size());
+
+        for (final Map.Entry<String, Object> param : params.entrySet()) {
+            final Object value = param.getValue();
 
-        this.params.forEach((key, value) -> {
             if (value instanceof Collection<?> collection) {
-                value = collection.toArray();
+                bindParams.put(param.getKey(), createInList(collection));
+            } else if (value instanceof Object[] array) {
+                bindParams.put(param.getKey(), createInList(Arrays.asList(array)));
+            } else {
+                bindParams.put(param.getKey(), value);
             }
+        }
+
+        return Collections.unmodifiableMap(bindParams);
+    }
 
-            if (value instanceof Object[] array) {
-                value = DSL.list(Stream.of(array).map(DSL::val).toList());
+    /**
+     * IN 句に変換するパラメータ（コレクションや配列）が含まれているかどうかを判定します。
+     *
+     * @param params パラメータ
+     * @return IN 句に変換するパラメータが含まれている場合は {@code true}
+     */
+    private static boolean hasInListParameter(final Map<String, Object> params) {
+        for (final Object value : params.values()) {
+            if (value instanceof Collection<?> || value instanceof Object[]) {
+                return true;
             }
+        }
 
-            params.put(key, value);
-        });
+        return false;
+    }
 
-        return Collections.unmodifiableMap(params);
+    /**
+     * バインド変数にクエリ部品（IN 句など）が含まれているかどうかを判定します。
+     *
+     * @param bindVariables バインド変数
+     * @return クエリ部品が含まれている場合は {@code true}
+     */
+    protected static boolean containsQueryPart(final Object[] bindVariables) {
+        for (final Object value : bindVariables) {
+            if (value instanceof QueryPart) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
-     * SQL の実行コンテキストを生成します。
+     * コレクションの要素を IN 句にバインドするクエリ部品を生成します。
+     *
+     * @param values コレクション
+     * @return IN 句にバインドするクエリ部品
+     * @see InListStrategy
+     */
+    protected QueryPart createInList(@NonNull final Collection<?> values) {
+        final int size = values.size();
+        final InListStrategy strategy = InListBindingPolicy.getDefault().selectStrategy(dslContext.dialect(), size);
+
+        if (strategy == InListStrategy.ARRAY) {
+            final Object[] array = toTypedArray(values);
+
+            if (Objects.nonNull(array)) {
+                return DSL.sql("select * from unnest({0})", DSL.val(array));
+            }
+        }
+
+        // 最後の要素を繰り返して、要素の数を 2 のべき乗に切り上げる
+        final int listSize = strategy == InListStrategy.PADDING && size > 1 ? Integer.highestOneBit(size - 1) << 1 : size;
+
+        final List<Field<?>> fields = new ArrayList<>(listSize);
+
+        for (final Object value : values) {
+            fields.add(DSL.val(value));
+        }
+
+        while (fields.size() < listSize) {
+            fields.add(fields.getLast());
+        }
+
+        return DSL.list(fields);
+    }
+
+    /**
+     * コレクションを要素の型の配列に変換します。
+     *
+     * @param values コレクション
+     * @return 要素の型の配列（要素の型が揃っていない場合は {@code null}）
+     */
+    private static Object[] toTypedArray(final Collection<?> values) {
+        Class<?> elementType = null;
+
+        for (final Object value : values) {
+            if (Objects.isNull(value)) {
+                continue;
+            }
+
+            if (Objects.isNull(elementType)) {
+                elementType = value.getClass();
+            } else if (value.getClass() != elementType) {
+                return null;
+            }
+        }
+
+        if (Objects.isNull(elementType)) {
+            return null;
+        }
+
+        final Class<?> componentType = elementType;
+
+        return values.toArray(length -> (Object[]) Array.newInstance(componentType, length));
+    }
+
+    /**
+     * SQL の実行コンテキストを生成します。<br />
+     * SQL ファイルの解析結果は {@link SqlTemplateCache} に、SQL の設定は {@link SqlConfigCache} にキャッシュし、
+     * 呼び出しごとにはパラメータの適用のみを行います（コネクションは取得しません）。
      *
      * @return SQL の実行コンテキスト
      */
-    @SneakyThrows({IOException.class, SQLException.class})
     protected ExecutionContext createExecutionContext() {
-        final String sql = Files.readString(sqlFilePath);
-        final Map<String, Object> params = createBindParameters();
+        return createExecutionContext(params);
+    }
+
+    /**
+     * 指定したパラメータを適用した SQL の実行コンテキストを生成します。
+     *
+     * @param params パラメータ
+     * @return SQL の実行コンテキスト
+     * @see #createExecutionContext()
+     */
+    protected ExecutionContext createExecutionContext(@NonNull final Map<String, Object> params) {
+        final Map<String, Object> bindParams = createBindParameters(params);
+
+        final SqlConfig sqlConfig = SqlConfigCache.getInstance().get(dslContext);
+
+        final Dialect dialect = sqlConfig.getDialect();
+
+        final ContextTransformer contextTransformer = SqlTemplateCache.getInstance().get(sqlFilePath, sqlConfig);
+
+        final ExecutionContext executionContext = sqlConfig.context()
+                .paramMap(bindParams)
+                .param(Dialect.PARAM_KEY_ESCAPE_CHAR, dialect.getEscapeChar());
+
+        contextTransformer.transform(executionContext);
+
+        return executionContext;
+    }
+
+    /**
+     * SQL の実行コンテキストからクエリを生成します。<br />
+     * ステートメントを保持する場合、SQL が保持しているクエリと同じであれば、保持しているクエリのバインド変数の値を置き換えて再利用します。<br />
+     * IN 句などのクエリ部品は SQL に展開してから比較するため、要素の数によらず SQL が変わらない
+     * {@link InListStrategy#PADDING} や {@link InListStrategy#ARRAY} の IN 句も再利用の対象となります。
+     *
+     * @param <Q>              クエリの型
+     * @param executionContext SQL の実行コンテキスト
+     * @param queryFactory     SQL とバインド変数からクエリを生成する関数
+     * @return クエリ
+     */
+    @SuppressWarnings("unchecked")
+    protected <Q extends Query> Q createQuery(@NonNull final ExecutionContext executionContext,
+                                              @NonNull final BiFunction<String, Object[], Q> queryFactory) {
+        String sql = executionContext.getExecutableSql();
+
+        Object[] bindVariables = executionContext.getBindVariables();
+
+        if (!keepStatement) {
+            SqlStatementStatistics.getInstance().recordPrepared();
 
-        try (final Connection connection = dslContext.configuration().connectionProvider().acquire()) {
-            final SqlConfig sqlConfig = UroboroSQL.builder(connection).build();
+            return queryFactory.apply(sql, bindVariables);
+        }
 
-            final Dialect dialect = sqlConfig.getDialect();
+        // IN 句などのクエリ部品は SQL に展開し、展開後の SQL で保持しているクエリと比較する
+        if (containsQueryPart(bindVariables)) {
+            final Query query = dslContext.query(sql, bindVariables);
 
-            final SqlParser sqlParser = new SqlParserImpl(sql, sqlConfig.getExpressionParser(), dialect.isRemoveTerminator(), false);
+            sql = query.getSQL();
+            bindVariables = query.getBindValues().toArray();
+        }
 
-            final ExecutionContext executionContext = sqlConfig.context()
-                    .paramMap(params)
-                    .param(Dialect.PARAM_KEY_ESCAPE_CHAR, dialect.getEscapeChar());
+        if (Objects.nonNull(keptQuery) && sql.equals(keptSql)) {
+            for (int i = 0; i < bindVariables.length; i++) {
+                keptQuery.bind(i + 1, bindVariables[i]);
+            }
 
-            final ContextTransformer contextTransformer = sqlParser.parse();
-            contextTransformer.transform(executionContext);
+            SqlStatementStatistics.getInstance().recordReused();
 
-            return executionContext;
+            return (Q) keptQuery;
         }
+
+        close();
+
+        final Q query = queryFactory.apply(sql, bindVariables);
+        query.keepStatement(true);
+
+        keptQuery = query;
+        keptSql = sql;
+
+        SqlStatementStatistics.getInstance().recordPrepared();
+
+        return query;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public S setKeepStatement(final boolean keepStatement) {
+        if (!keepStatement) {
+            close();
+        }
+
+        this.keepStatement = keepStatement;
+
+        return (S) this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(keptQuery)) {
+            keptQuery.close();
+        }
+
+        keptQuery = null;
+        keptSql = null;
     }
 
     /**
@@ -0,0 +1,115 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.time.Duration;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * キャッシュした SQL ファイルのテンプレートを再読み込みする方針です。
+ *
+ * @author hamana
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class SqlFileReloadPolicy {
+    /**
+     * SQL ファイルの変更を確認しない方針です。
+     */
+    private static final SqlFileReloadPolicy NEVER = new SqlFileReloadPolicy(Mode.NEVER, Duration.ZERO);
+
+    /**
+     * SQL ファイルのディレクトリを監視する方針です。
+     */
+    private static final SqlFileReloadPolicy WATCH = new SqlFileReloadPolicy(Mode.WATCH, Duration.ZERO);
+
+    /**
+     * SQL ファイルの変更を確認する方法です。
+     */
+    @NonNull
+    private final Mode mode;
+
+    /**
+     * SQL ファイルの更新日時を確認する間隔です。
+     */
+    @NonNull
+    private final Duration interval;
+
+    /**
+     * SQL ファイルの変更を確認しない方針を取得します。<br />
+     * クエリごとのファイルシステムへのアクセスは発生しないため、本番環境に向いています。
+     *
+     * @return SQL ファイルの変更を確認しない方針
+     */
+    public static SqlFileReloadPolicy never() {
+        return NEVER;
+    }
+
+    /**
+     * 指定した間隔で SQL ファイルの更新日時を確認する方針を取得します。<br />
+     * SQL ファイルの更新日時は前回の確認から指定した間隔が経過した後の最初のクエリで確認します。
+     *
+     * @param interval SQL ファイルの更新日時を確認する間隔
+     * @return 指定した間隔で SQL ファイルの更新日時を確認する方針
+     */
+    public static SqlFileReloadPolicy interval(@NonNull final Duration interval) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("SQL ファイルの更新日時を確認する間隔が負の値です。");
+        }
+
+        return new SqlFileReloadPolicy(Mode.INTERVAL, interval);
+    }
+
+    /**
+     * SQL ファイルのディレクトリを {@link java.nio.file.WatchService} で監視する方針を取得します。<br />
+     * SQL ファイルの変更はバックグラウンドのスレッドで検知するため、クエリごとのファイルシステムへのアクセスは発生しません。
+     *
+     * @return SQL ファイルのディレクトリを監視する方針
+     */
+    public static SqlFileReloadPolicy watch() {
+        return WATCH;
+    }
+
+    /**
+     * SQL ファイルの変更を確認する方法です。
+     *
+     * @author hamana
+     */
+    public enum Mode {
+        /**
+         * SQL ファイルの変更を確認しません。
+         */
+        NEVER,
+
+        /**
+         * 一定の間隔で SQL ファイルの更新日時を確認します。
+         */
+        INTERVAL,
+
+        /**
+         * SQL ファイルのディレクトリを監視します。
+         */
+        WATCH
+    }
+}
@@ -25,6 +25,7 @@ import org.jooq.ResultQuery;
 import jp.co.future.uroborosql.context.ExecutionContext;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 
 /**
@@ -35,6 +36,12 @@ import lombok.ToString;
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
 public class SqlFileSelect extends SqlFileQuery<ISqlFileSelect> implements ISqlFileSelect {
+    /**
+     * JDBC のフェッチサイズです。
+     */
+    @Getter
+    private int fetchSize;
+
     /**
      * @param dslContext  DSL コンテキスト
      * @param sqlFilePath SQL ファイルのパス
@@ -61,6 +68,22 @@ public class SqlFileSelect extends SqlFileQuery<ISqlFileSelect> implements ISqlF
     public ResultQuery<Record> getQuery() {
         final ExecutionContext executionContext = createExecutionContext();
 
-        return dslContext.resultQuery(executionContext.getExecutableSql(), executionContext.getBindVariables());
+        final ResultQuery<Record> query = createQuery(executionContext, (sql, bindVariables) -> dslContext.resultQuery(sql, bindVariables));
+
+        return fetchSize > 0 ? query.fetchSize(fetchSize) : query;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ISqlFileSelect setFetchSize(final int fetchSize) throws IllegalArgumentException {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("フェッチサイズが負の値です。");
+        }
+
+        this.fetchSize = fetchSize;
+
+        return this;
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL ファイルのディレクトリを監視し、変更された SQL ファイルのテンプレートをキャッシュから破棄するクラスです。<br />
+ * 監視できるのはデフォルトのファイルシステム上のディレクトリのみです。
+ *
+ * @author hamana
+ */
+@Slf4j
+@ToString(onlyExplicitlyIncluded = true)
+final class SqlFileWatcher implements Closeable {
+    /**
+     * テンプレートを破棄するキャッシュです。
+     */
+    private final SqlTemplateCache cache;
+
+    /**
+     * 監視に使用するファイルシステムです。
+     */
+    private final FileSystem fileSystem = FileSystems.getDefault();
+
+    /**
+     * 監視サービスです。
+     */
+    private final WatchService watchService;
+
+    /**
+     * 監視キーと監視しているディレクトリです。
+     */
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    /**
+     * 監視しているディレクトリです。
+     */
+    @ToString.Include
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param cache テンプレートを破棄するキャッシュ
+     * @throws IOException 監視サービスを生成できなかった場合
+     */
+    SqlFileWatcher(@NonNull final SqlTemplateCache cache) throws IOException {
+        this.cache = cache;
+
+        watchService = fileSystem.newWatchService();
+
+        Thread.ofPlatform().name(SqlFileWatcher.class.getSimpleName()).daemon().start(this::watch);
+    }
+
+    /**
+     * SQL ファイルのディレクトリを監視の対象に追加します。<br />
+     * 既に監視しているディレクトリ、またはデフォルトのファイルシステム以外のディレクトリの場合は何もしません。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     */
+    void register(@NonNull final Path sqlFilePath) {
+        if (sqlFilePath.getFileSystem() != fileSystem) {
+            return;
+        }
+
+        final Path directory = sqlFilePath.toAbsolutePath().normalize().getParent();
+
+        if (Objects.isNull(directory) || !watchedDirectories.add(directory)) {
+            return;
+        }
+
+        try {
+            directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+        } catch (final IOException | ClosedWatchServiceException e) {
+            watchedDirectories.remove(directory);
+
+            log.atWarn().setCause(e).log("{} を監視できませんでした。", directory);
+        }
+    }
+
+    /**
+     * 監視サービスのイベントを受け取り、変更された SQL ファイルのテンプレートをキャッシュから破棄します。
+     */
+    private void watch() {
+        try {
+            while (true) {
+                final WatchKey watchKey = watchService.take();
+                final Path directory = directories.get(watchKey);
+
+                for (final WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.kind() == OVERFLOW || Objects.isNull(directory)) {
+                        cache.invalidateAll();
+
+                        continue;
+                    }
+
+                    final Path changedPath = directory.resolve((Path) event.context());
+
+                    cache.invalidateIf(sqlFilePath -> changedPath.equals(sqlFilePath.toAbsolutePath().normalize()));
+                }
+
+                if (!watchKey.reset() && Objects.nonNull(directory)) {
+                    directories.remove(watchKey);
+                    watchedDirectories.remove(directory);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            // Do nothing.
+        }
+    }
+
+    /**
+     * ディレクトリの監視を終了します。
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -16,14 +16,20 @@
 package jp.co.nextcolors.framework.jdbc.query;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
+import org.jooq.BatchBindStep;
 import org.jooq.DSLContext;
 import org.jooq.Query;
 
 import jp.co.future.uroborosql.context.ExecutionContext;
 
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 
 /**
@@ -60,6 +66,75 @@ public class SqlFileWrite extends SqlFileQuery<ISqlFileWrite> implements ISqlFil
     public Query getQuery() {
         final ExecutionContext executionContext = createExecutionContext();
 
-        return dslContext.query(executionContext.getExecutableSql(), executionContext.getBindVariables());
+        return createQuery(executionContext, (sql, bindVariables) -> dslContext.query(sql, bindVariables));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[] executeBatch(@NonNull final Iterable<? extends Map<String, Object>> batchParams, final int batchSize)
+            throws IllegalArgumentException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("バッチサイズが 1 未満です。");
+        }
+
+        final IntStream.Builder rowCounts = IntStream.builder();
+
+        String batchSql = null;
+        BatchBindStep batch = null;
+        int batchRowCount = 0;
+
+        // 行ごとにパラメータをコピーせず、前の行のパラメータを戻してから上書きする
+        final Map<String, Object> params = new HashMap<>(this.params);
+        Map<String, Object> previousRowParams = Collections.emptyMap();
+
+        for (final Map<String, Object> rowParams : batchParams) {
+            for (final String name : previousRowParams.keySet()) {
+                if (this.params.containsKey(name)) {
+                    params.put(name, this.params.get(name));
+                } else {
+                    params.remove(name);
+                }
+            }
+
+            params.putAll(rowParams);
+            previousRowParams = rowParams;
+
+            // IF コメントなどの条件はパラメータの値によって変わるため、SQL ファイルの解析結果へのパラメータの適用は行ごとに行う
+            final ExecutionContext executionContext = createExecutionContext(params);
+
+            String sql = executionContext.getExecutableSql();
+            Object[] bindValues = executionContext.getBindVariables();
+
+            // IN 句などのクエリ部品は SQL に展開し、SQL の形とバインド変数を確定させる
+            if (containsQueryPart(bindValues)) {
+                final Query query = dslContext.query(sql, bindValues);
+
+                sql = query.getSQL();
+                bindValues = query.getBindValues().toArray();
+            }
+
+            if (Objects.nonNull(batch) && (!sql.equals(batchSql) || batchRowCount >= batchSize)) {
+                IntStream.of(batch.execute()).forEach(rowCounts);
+
+                batch = null;
+            }
+
+            if (Objects.isNull(batch)) {
+                batchSql = sql;
+                batch = dslContext.batch(dslContext.query(sql, bindValues));
+                batchRowCount = 0;
+            }
+
+            batch = batch.bind(bindValues);
+            batchRowCount++;
+        }
+
+        if (Objects.nonNull(batch)) {
+            IntStream.of(batch.execute()).forEach(rowCounts);
+        }
+
+        return rowCounts.build().toArray();
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * SQL ファイルを使用したクエリのステートメントの再利用の統計です。<br />
+ * {@link ISqlFileQuery#getQuery()} で生成したクエリの数と、保持していたクエリを再利用した数を集計します。
+ *
+ * @author hamana
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+@ToString
+public final class SqlStatementStatistics {
+    /**
+     * {@link SqlFileQuery} が共有する統計です。
+     */
+    private static final SqlStatementStatistics INSTANCE = new SqlStatementStatistics();
+
+    /**
+     * クエリを生成した数です。
+     */
+    private final LongAdder preparedCount = new LongAdder();
+
+    /**
+     * 保持していたクエリを再利用した数です。
+     */
+    private final LongAdder reusedCount = new LongAdder();
+
+    /**
+     * {@link SqlFileQuery} が共有する統計を取得します。
+     *
+     * @return {@link SqlFileQuery} が共有する統計
+     */
+    public static SqlStatementStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * クエリを生成した数を取得します。
+     *
+     * @return クエリを生成した数
+     */
+    public long getPreparedCount() {
+        return preparedCount.sum();
+    }
+
+    /**
+     * 保持していたクエリを再利用した数を取得します。
+     *
+     * @return 保持していたクエリを再利用した数
+     */
+    public long getReusedCount() {
+        return reusedCount.sum();
+    }
+
+    /**
+     * クエリの再利用率を取得します。<br />
+     * クエリを 1 回も取得していない場合は {@code 0} を返します。
+     *
+     * @return クエリの再利用率（{@code 0} 以上 {@code 1} 以下）
+     */
+    public double getReuseRate() {
+        final long reused = getReusedCount();
+
+        final long total = reused + getPreparedCount();
+
+        return total == 0 ? 0 : (double) reused / total;
+    }
+
+    /**
+     * 集計した数をリセットします。
+     */
+    public void reset() {
+        preparedCount.reset();
+        reusedCount.reset();
+    }
+
+    /**
+     * クエリを生成したことを記録します。
+     */
+    void recordPrepared() {
+        preparedCount.increment();
+    }
+
+    /**
+     * 保持していたクエリを再利用したことを記録します。
+     */
+    void recordReused() {
+        reusedCount.increment();
+    }
+}
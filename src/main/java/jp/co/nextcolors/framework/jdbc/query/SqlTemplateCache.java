@@ -0,0 +1,467 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.SqlParser;
+import jp.co.future.uroborosql.parser.SqlParserImpl;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.ToString;
+
+import jp.co.nextcolors.framework.jdbc.query.source.SqlFileRegistry;
+
+/**
+ * 解析済みの SQL ファイル（テンプレート）のキャッシュです。<br />
+ * SQL ファイルのパスと SQL の方言の組み合わせごとに解析済みのテンプレートを保持し、
+ * テンプレートの数が上限を超えた場合は最も長い間使用されていないテンプレートを破棄します。<br />
+ * SQL ファイルの変更を反映するかどうかは {@link SqlFileReloadPolicy} で設定します。<br />
+ * {@link SqlFileRegistry} を設定した場合、レジストリに含まれている SQL ファイルはファイルシステムではなくレジストリから読み込みます。
+ *
+ * @author hamana
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class SqlTemplateCache {
+    /**
+     * キャッシュするテンプレートの数の上限のデフォルト値です。
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * {@link SqlFileQuery} が共有するキャッシュです。
+     */
+    private static final SqlTemplateCache INSTANCE = new SqlTemplateCache(DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * 解析済みのテンプレートです。<br />
+     * アクセス順に並べ、上限を超えた場合は最も長い間使用されていないテンプレートを破棄します。
+     */
+    private final Map<Key, Template> templates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Template> eldest) {
+            if (size() <= maximumSize) {
+                return false;
+            }
+
+            evictionCount.increment();
+
+            return true;
+        }
+    };
+
+    /**
+     * キャッシュするテンプレートの数の上限です。
+     */
+    @Getter
+    @ToString.Include
+    private volatile int maximumSize;
+
+    /**
+     * SQL ファイルのテンプレートを再読み込みする方針です。
+     */
+    @Getter
+    @ToString.Include
+    private volatile SqlFileReloadPolicy reloadPolicy = SqlFileReloadPolicy.never();
+
+    /**
+     * 読み込み済みの SQL ファイルのレジストリです。
+     */
+    @Getter
+    @ToString.Include
+    private volatile SqlFileRegistry registry = SqlFileRegistry.empty();
+
+    /**
+     * SQL ファイルのディレクトリの監視です。<br />
+     * {@link SqlFileReloadPolicy#watch()} の場合のみ使用します。
+     */
+    private SqlFileWatcher watcher;
+
+    /**
+     * テンプレートを破棄した回数です。<br />
+     * 読み込み中に破棄されたかどうかを判定するために使用し、{@link #templates} のロックを取得して参照・更新します。
+     */
+    private long invalidationCount;
+
+    /**
+     * キャッシュのヒット数です。
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * キャッシュのミス数です。
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * キャッシュから破棄したテンプレートの数です。
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maximumSize キャッシュするテンプレートの数の上限
+     */
+    public SqlTemplateCache(final int maximumSize) {
+        setMaximumSize(maximumSize);
+    }
+
+    /**
+     * {@link SqlFileQuery} が共有するキャッシュを取得します。
+     *
+     * @return {@link SqlFileQuery} が共有するキャッシュ
+     */
+    public static SqlTemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * キャッシュするテンプレートの数の上限を設定します。<br />
+     * 現在キャッシュしているテンプレートの数が上限を超える場合は、最も長い間使用されていないテンプレートから破棄します。
+     *
+     * @param maximumSize キャッシュするテンプレートの数の上限
+     */
+    public void setMaximumSize(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("キャッシュするテンプレートの数の上限が 1 未満です。");
+        }
+
+        this.maximumSize = maximumSize;
+
+        synchronized (templates) {
+            final var iterator = templates.entrySet().iterator();
+
+            while (templates.size() > maximumSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * SQL ファイルのテンプレートを再読み込みする方針を設定します。<br />
+     * 方針を変更すると、キャッシュしているすべてのテンプレートを破棄します。
+     *
+     * @param reloadPolicy SQL ファイルのテンプレートを再読み込みする方針
+     */
+    @SneakyThrows(IOException.class)
+    public synchronized void setReloadPolicy(@NonNull final SqlFileReloadPolicy reloadPolicy) {
+        if (reloadPolicy.getMode() == SqlFileReloadPolicy.Mode.WATCH && Objects.isNull(watcher)) {
+            watcher = new SqlFileWatcher(this);
+        }
+
+        if (reloadPolicy.getMode() != SqlFileReloadPolicy.Mode.WATCH && Objects.nonNull(watcher)) {
+            watcher.close();
+            watcher = null;
+        }
+
+        this.reloadPolicy = reloadPolicy;
+
+        invalidateAll();
+    }
+
+    /**
+     * 読み込み済みの SQL ファイルのレジストリを設定します。<br />
+     * レジストリを変更すると、キャッシュしているすべてのテンプレートを破棄します。
+     *
+     * @param registry 読み込み済みの SQL ファイルのレジストリ
+     */
+    public void setRegistry(@NonNull final SqlFileRegistry registry) {
+        this.registry = registry;
+
+        invalidateAll();
+    }
+
+    /**
+     * SQL ファイルを解析したテンプレートを取得します。<br />
+     * キャッシュにテンプレートが存在しない場合、または SQL ファイルが変更されていた場合は、
+     * SQL ファイルを読み込んで解析し、キャッシュに格納します。
+     * 読み込み中にテンプレートが破棄された場合（SQL ファイルの変更を監視で検知した場合など）は、キャッシュに格納しません。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @param sqlConfig   SQL の設定
+     * @return SQL ファイルを解析したテンプレート
+     */
+    public ContextTransformer get(@NonNull final Path sqlFilePath, @NonNull final SqlConfig sqlConfig) {
+        final Key key = new Key(sqlFilePath, sqlConfig.getDialect().getClass());
+
+        final Template cachedTemplate;
+
+        final long invalidationCountBeforeLoad;
+
+        synchronized (templates) {
+            cachedTemplate = templates.get(key);
+            invalidationCountBeforeLoad = invalidationCount;
+        }
+
+        if (Objects.nonNull(cachedTemplate) && !isModified(sqlFilePath, cachedTemplate)) {
+            hitCount.increment();
+
+            return cachedTemplate.contextTransformer;
+        }
+
+        missCount.increment();
+
+        // 解析中はロックを保持しないため、同時に解析された場合は先に格納されたテンプレートを使用
+        final Template template = load(sqlFilePath, sqlConfig);
+
+        synchronized (templates) {
+            final Template currentTemplate = templates.get(key);
+
+            if (Objects.nonNull(currentTemplate) && currentTemplate != cachedTemplate) {
+                return currentTemplate.contextTransformer;
+            }
+
+            // 読み込み中に破棄された場合は変更前の SQL ファイルを読み込んだ可能性があるため、格納せずに次回読み込み直す
+            if (invalidationCountBeforeLoad == invalidationCount) {
+                templates.put(key, template);
+            }
+        }
+
+        return template.contextTransformer;
+    }
+
+    /**
+     * SQL ファイルが変更されたかどうかを判定します。<br />
+     * {@link SqlFileReloadPolicy#interval(java.time.Duration)} の場合のみ、前回の確認から間隔が経過していれば SQL ファイルの更新日時を確認します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @param template    キャッシュしているテンプレート
+     * @return SQL ファイルが変更された場合は {@code true}、そうではない場合は {@code false}
+     */
+    @SneakyThrows(IOException.class)
+    private boolean isModified(final Path sqlFilePath, final Template template) {
+        final SqlFileReloadPolicy reloadPolicy = this.reloadPolicy;
+
+        if (reloadPolicy.getMode() != SqlFileReloadPolicy.Mode.INTERVAL || !template.reloadable) {
+            return false;
+        }
+
+        final long now = System.nanoTime();
+
+        if (now - template.checkedTime < reloadPolicy.getInterval().toNanos()) {
+            return false;
+        }
+
+        template.checkedTime = now;
+
+        return !Objects.equals(Files.getLastModifiedTime(sqlFilePath), template.lastModifiedTime);
+    }
+
+    /**
+     * SQL ファイルを読み込んで解析し、テンプレートを生成します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @param sqlConfig   SQL の設定
+     * @return テンプレート
+     */
+    @SneakyThrows(IOException.class)
+    private Template load(final Path sqlFilePath, final SqlConfig sqlConfig) {
+        final SqlFileReloadPolicy reloadPolicy = this.reloadPolicy;
+
+        // レジストリの SQL ファイルは変更されないため、変更を確認しない
+        if (registry.contains(sqlFilePath)) {
+            return new Template(parse(sqlFilePath, sqlConfig), null, false, System.nanoTime());
+        }
+
+        FileTime lastModifiedTime = null;
+
+        switch (reloadPolicy.getMode()) {
+            case INTERVAL -> lastModifiedTime = Files.getLastModifiedTime(sqlFilePath);
+            // 読み込む前に監視を開始し、読み込んだ後の変更を検知できるようにする
+            case WATCH -> registerWatch(sqlFilePath);
+            case NEVER -> {
+                // Do nothing.
+            }
+        }
+
+        return new Template(parse(sqlFilePath, sqlConfig), lastModifiedTime, true, System.nanoTime());
+    }
+
+    /**
+     * SQL ファイルのディレクトリを監視の対象に追加します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     */
+    private synchronized void registerWatch(final Path sqlFilePath) {
+        if (Objects.nonNull(watcher)) {
+            watcher.register(sqlFilePath);
+        }
+    }
+
+    /**
+     * SQL ファイルを読み込んで解析します。<br />
+     * レジストリに含まれている SQL ファイルはレジストリから、それ以外の SQL ファイルはファイルシステムから読み込みます。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @param sqlConfig   SQL の設定
+     * @return SQL ファイルを解析したテンプレート
+     */
+    @SneakyThrows(IOException.class)
+    protected ContextTransformer parse(final Path sqlFilePath, final SqlConfig sqlConfig) {
+        final Optional<String> registeredSql = registry.find(sqlFilePath);
+
+        final String sql = registeredSql.isPresent() ? registeredSql.get() : Files.readString(sqlFilePath);
+
+        final Dialect dialect = sqlConfig.getDialect();
+
+        final SqlParser sqlParser = new SqlParserImpl(sql, sqlConfig.getExpressionParser(), dialect.isRemoveTerminator(), false);
+
+        return sqlParser.parse();
+    }
+
+    /**
+     * 指定した SQL ファイルのテンプレートをキャッシュから破棄します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     */
+    public void invalidate(@NonNull final Path sqlFilePath) {
+        invalidateIf(sqlFilePath::equals);
+    }
+
+    /**
+     * SQL ファイルのパスが条件を満たすテンプレートをキャッシュから破棄します。
+     *
+     * @param filter SQL ファイルのパスの条件
+     */
+    void invalidateIf(final Predicate<Path> filter) {
+        synchronized (templates) {
+            invalidationCount++;
+
+            templates.keySet().removeIf(key -> filter.test(key.sqlFilePath()));
+        }
+    }
+
+    /**
+     * すべてのテンプレートをキャッシュから破棄します。
+     */
+    public void invalidateAll() {
+        synchronized (templates) {
+            invalidationCount++;
+
+            templates.clear();
+        }
+    }
+
+    /**
+     * キャッシュしているテンプレートの数を取得します。
+     *
+     * @return キャッシュしているテンプレートの数
+     */
+    @ToString.Include
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * キャッシュのヒット数を取得します。
+     *
+     * @return キャッシュのヒット数
+     */
+    @ToString.Include
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * キャッシュのミス数を取得します。
+     *
+     * @return キャッシュのミス数
+     */
+    @ToString.Include
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * キャッシュから破棄したテンプレートの数を取得します。<br />
+     * {@link #invalidate(Path)} や {@link #invalidateAll()} で破棄したテンプレートの数は含みません。
+     *
+     * @return キャッシュから破棄したテンプレートの数
+     */
+    @ToString.Include
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * テンプレートのキーです。
+     *
+     * @param sqlFilePath  SQL ファイルのパス
+     * @param dialectClass SQL の方言の型を表すクラス
+     */
+    private record Key(Path sqlFilePath, Class<? extends Dialect> dialectClass) {
+    }
+
+    /**
+     * キャッシュするテンプレートです。
+     *
+     * @author hamana
+     */
+    private static final class Template {
+        /**
+         * SQL ファイルを解析したテンプレートです。
+         */
+        private final ContextTransformer contextTransformer;
+
+        /**
+         * 読み込んだ時点の SQL ファイルの更新日時です。
+         */
+        private final FileTime lastModifiedTime;
+
+        /**
+         * SQL ファイルの変更を確認するかどうかです。
+         */
+        private final boolean reloadable;
+
+        /**
+         * SQL ファイルの更新日時を最後に確認した時刻（{@link System#nanoTime()}）です。
+         */
+        private volatile long checkedTime;
+
+        /**
+         * @param contextTransformer SQL ファイルを解析したテンプレート
+         * @param lastModifiedTime   読み込んだ時点の SQL ファイルの更新日時
+         * @param reloadable         SQL ファイルの変更を確認するかどうか
+         * @param checkedTime        SQL ファイルの更新日時を最後に確認した時刻
+         */
+        private Template(final ContextTransformer contextTransformer,
+                         final FileTime lastModifiedTime,
+                         final boolean reloadable,
+                         final long checkedTime) {
+            this.contextTransformer = contextTransformer;
+            this.lastModifiedTime = lastModifiedTime;
+            this.reloadable = reloadable;
+            this.checkedTime = checkedTime;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.Resource;
+import io.github.classgraph.ScanResult;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.ToString;
+
+/**
+ * クラスパス上（JAR/WAR ファイル内を含む）の SQL ファイルの読み込み元です。<br />
+ * SQL ファイルのパスはクラスパスのルートからの相対パスです。
+ *
+ * <pre>{@code
+ * // クラスパス上の sql/user/select.sql は Path.of("sql", "user", "select.sql") で問い合わせる
+ * ISqlFileSource source = new ClasspathSqlFileSource("sql");
+ * }</pre>
+ *
+ * @author hamana
+ */
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class ClasspathSqlFileSource implements ISqlFileSource {
+    /**
+     * SQL ファイルの拡張子です。
+     */
+    private static final String SQL_FILE_EXTENSION = "sql";
+
+    /**
+     * SQL ファイルを検索するクラスパスのパッケージ（ディレクトリ）です。
+     */
+    @NonNull
+    private final String prefix;
+
+    /**
+     * {@inheritDoc}
+     */
+    @SneakyThrows(IOException.class)
+    @Override
+    public Map<Path, String> load() {
+        final Map<Path, String> sqlFiles = new HashMap<>();
+
+        try (final ScanResult scanResult = new ClassGraph().acceptPaths(prefix).scan()) {
+            for (final Resource resource : scanResult.getResourcesWithExtension(SQL_FILE_EXTENSION)) {
+                try (resource) {
+                    sqlFiles.put(Path.of(resource.getPath()), new String(resource.load(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        return Map.copyOf(sqlFiles);
+    }
+}
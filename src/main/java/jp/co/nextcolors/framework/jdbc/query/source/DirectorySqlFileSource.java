@@ -0,0 +1,85 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FilenameUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.ToString;
+
+/**
+ * ディレクトリ配下の SQL ファイルの読み込み元です。<br />
+ * ディレクトリはデフォルトのファイルシステムに限らず、ZIP ファイルシステム（JAR/WAR ファイル）などのパスも指定できます。
+ * SQL ファイルのパスはディレクトリからの相対パスです。
+ *
+ * <pre>{@code
+ * // WAR ファイル内の /WEB-INF/classes/sql/user/select.sql は Path.of("sql", "user", "select.sql") で問い合わせる
+ * FileSystem fileSystem = FileSystems.newFileSystem(Path.of("app.war"));
+ * ISqlFileSource source = new DirectorySqlFileSource(fileSystem.getPath("/WEB-INF/classes"));
+ * }</pre>
+ *
+ * @author hamana
+ */
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class DirectorySqlFileSource implements ISqlFileSource {
+    /**
+     * SQL ファイルの拡張子です。
+     */
+    private static final String SQL_FILE_EXTENSION = "sql";
+
+    /**
+     * SQL ファイルを検索するディレクトリです。
+     */
+    @NonNull
+    private final Path directory;
+
+    /**
+     * {@inheritDoc}
+     */
+    @SneakyThrows(IOException.class)
+    @Override
+    public Map<Path, String> load() {
+        final List<Path> sqlFilePaths;
+
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            sqlFilePaths = paths.filter(Files::isRegularFile)
+                    .filter(path -> FilenameUtils.isExtension(path.getFileName().toString(), SQL_FILE_EXTENSION))
+                    .toList();
+        }
+
+        final Map<Path, String> sqlFiles = new HashMap<>();
+
+        for (final Path sqlFilePath : sqlFilePaths) {
+            // ファイルシステムに依存しないよう、デフォルトのファイルシステムの相対パスに変換
+            sqlFiles.put(Path.of(directory.relativize(sqlFilePath).toString()), Files.readString(sqlFilePath));
+        }
+
+        return Map.copyOf(sqlFiles);
+    }
+}
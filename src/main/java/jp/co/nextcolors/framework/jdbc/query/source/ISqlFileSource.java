@@ -0,0 +1,34 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * SQL ファイルの読み込み元です。
+ *
+ * @author hamana
+ */
+public interface ISqlFileSource {
+    /**
+     * すべての SQL ファイルを読み込みます。<br />
+     * 戻り値のキーは SQL ファイルを問い合わせる際に指定するパス（デフォルトのファイルシステムの相対パス）です。
+     *
+     * @return SQL ファイルのパスと SQL
+     */
+    Map<Path, String> load();
+}
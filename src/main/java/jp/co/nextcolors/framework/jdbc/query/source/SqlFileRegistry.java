@@ -0,0 +1,129 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * 読み込み済みの SQL ファイルのレジストリです。<br />
+ * アプリケーションの起動時に {@link ISqlFileSource} からすべての SQL ファイルを一度だけ読み込み、以降は変更されません。
+ *
+ * @author hamana
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode
+public final class SqlFileRegistry {
+    /**
+     * SQL ファイルを含まないレジストリです。
+     */
+    private static final SqlFileRegistry EMPTY = new SqlFileRegistry(Map.of());
+
+    /**
+     * SQL ファイルのパスと SQL です。
+     */
+    private final Map<Path, String> sqlFiles;
+
+    /**
+     * SQL ファイルを含まないレジストリを取得します。
+     *
+     * @return SQL ファイルを含まないレジストリ
+     */
+    public static SqlFileRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 指定した読み込み元からすべての SQL ファイルを読み込み、レジストリを生成します。
+     *
+     * @param sources SQL ファイルの読み込み元
+     * @return レジストリ
+     * @throws IllegalStateException 複数の読み込み元に同じパスの SQL ファイルが存在する場合
+     */
+    public static SqlFileRegistry of(@NonNull final ISqlFileSource... sources) throws IllegalStateException {
+        return of(List.of(sources));
+    }
+
+    /**
+     * 指定した読み込み元からすべての SQL ファイルを読み込み、レジストリを生成します。
+     *
+     * @param sources SQL ファイルの読み込み元
+     * @return レジストリ
+     * @throws IllegalStateException 複数の読み込み元に同じパスの SQL ファイルが存在する場合
+     */
+    public static SqlFileRegistry of(@NonNull final List<? extends ISqlFileSource> sources) throws IllegalStateException {
+        final Map<Path, String> sqlFiles = new HashMap<>();
+
+        sources.forEach(source -> source.load().forEach((sqlFilePath, sql) -> {
+            if (Objects.nonNull(sqlFiles.putIfAbsent(sqlFilePath, sql))) {
+                throw new IllegalStateException("SQL ファイル %s が重複しています。".formatted(sqlFilePath));
+            }
+        }));
+
+        return new SqlFileRegistry(Map.copyOf(sqlFiles));
+    }
+
+    /**
+     * 指定したパスの SQL ファイルの SQL を取得します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @return SQL ファイルの SQL（レジストリに含まれていない場合は空）
+     */
+    public Optional<String> find(@NonNull final Path sqlFilePath) {
+        return Optional.ofNullable(sqlFiles.get(sqlFilePath));
+    }
+
+    /**
+     * 指定したパスの SQL ファイルがレジストリに含まれているかどうかを判定します。
+     *
+     * @param sqlFilePath SQL ファイルのパス
+     * @return レジストリに含まれている場合は {@code true}、そうではない場合は {@code false}
+     */
+    public boolean contains(@NonNull final Path sqlFilePath) {
+        return sqlFiles.containsKey(sqlFilePath);
+    }
+
+    /**
+     * レジストリに含まれているすべての SQL ファイルのパスを取得します。
+     *
+     * @return レジストリに含まれているすべての SQL ファイルのパス
+     */
+    public Set<Path> getSqlFilePaths() {
+        return sqlFiles.keySet();
+    }
+
+    /**
+     * レジストリに含まれている SQL ファイルの数を取得します。
+     *
+     * @return レジストリに含まれている SQL ファイルの数
+     */
+    @ToString.Include
+    public int size() {
+        return sqlFiles.size();
+    }
+}
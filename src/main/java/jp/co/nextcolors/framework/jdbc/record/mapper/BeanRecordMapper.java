@@ -15,36 +15,76 @@
  */
 package jp.co.nextcolors.framework.jdbc.record.mapper;
 
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.beanutils2.BeanUtils;
+import org.apache.commons.beanutils2.BeanUtilsBean;
 import org.apache.commons.beanutils2.PropertyUtils;
+import org.apache.commons.lang3.ClassUtils;
 import org.jooq.Configuration;
-import org.jooq.DataType;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
+import org.jooq.Row;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DefaultDataType;
-import org.jooq.lambda.Unchecked;
 
 import jp.co.future.uroborosql.utils.CaseFormat;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.ToString;
 
 /**
- * レコードを Bean（JavaBeans）に変換するための {@link RecordMapper} の実装クラスです。
+ * レコードを Bean（JavaBeans）に変換するための {@link RecordMapper} の実装クラスです。<br />
+ * Bean の型、レコードのフィールド、SQL の方言の組み合わせごとに変換の計画（列の位置、コンバータ、コンストラクタ、セッター）を一度だけ生成してキャッシュし、
+ * レコードごとには計画に従って値を設定するだけにしています。<br />
+ * Bean は次の順序で生成します。
+ * <ol>
+ * <li>レコードクラスの場合は、標準コンストラクタにコンポーネント名と一致するフィールドの値を渡します。</li>
+ * <li>引数のない public なコンストラクタがある場合は、それで生成し、書き込み可能なプロパティに値を設定します。</li>
+ * <li>public なコンストラクタが 1 つだけの場合は、そのコンストラクタに値を渡します。
+ * 引数名が取得できる場合（{@link ConstructorProperties} または {@code -parameters} でコンパイルした場合）は名前で、それ以外の場合は位置でフィールドと対応させます。</li>
+ * </ol>
  *
  * @param <R> レコードの型です。
  * @param <B> 変換する Bean（JavaBeans）の型です。
  * @author hamana
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 @ToString
 @EqualsAndHashCode
 public class BeanRecordMapper<R extends Record, B> implements RecordMapper<R, B> {
+    /**
+     * Bean の型ごとの変換の計画です。
+     */
+    private static final ClassValue<Map<PlanKey, Plan>> PLANS = new ClassValue<>() {
+        @Override
+        protected Map<PlanKey, Plan> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * 変換する Bean（JavaBeans）の型を表すクラスです。
      */
@@ -57,34 +97,284 @@ public class BeanRecordMapper<R extends Record, B> implements RecordMapper<R, B>
     @NonNull
     private final Configuration configuration;
 
+    /**
+     * 直前に使用したレコードのフィールドと変換の計画です。<br />
+     * 同じ検索結果のレコードはフィールドを共有するため、キャッシュの検索を省略できます。
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile LastPlan lastPlan;
+
     /**
      * {@inheritDoc}
      */
-    @SneakyThrows(ReflectiveOperationException.class)
+    @SneakyThrows(Throwable.class)
     @Override
     public B map(final R record) {
         if (Objects.isNull(record)) {
             return null;
         }
 
-        final B bean = beanClass.getConstructor().newInstance();
+        final Plan plan = getPlan(record);
+
+        final ValuePlan[] arguments = plan.arguments();
+
+        final Object[] args = new Object[arguments.length];
+
+        for (int i = 0; i < arguments.length; i++) {
+            args[i] = arguments[i].get(record);
+        }
+
+        @SuppressWarnings("unchecked")
+        final B bean = (B) plan.constructor().invokeExact(args);
+
+        for (final PropertyPlan property : plan.properties()) {
+            property.setter().invokeExact((Object) bean, property.value().get(record));
+        }
+
+        return bean;
+    }
+
+    /**
+     * レコードに対応する変換の計画を取得します。
+     *
+     * @param record レコード
+     * @return 変換の計画
+     */
+    private Plan getPlan(final R record) {
+        final Row row = record.fieldsRow();
+
+        final LastPlan lastPlan = this.lastPlan;
+
+        if (Objects.nonNull(lastPlan) && lastPlan.row() == row) {
+            return lastPlan.plan();
+        }
+
+        final PlanKey key = new PlanKey(Stream.of(row.fields()).map(Field::getQualifiedName).toList(), configuration.dialect());
+
+        final Plan plan = PLANS.get(beanClass).computeIfAbsent(key, k -> createPlan(row));
+
+        this.lastPlan = new LastPlan(row, plan);
 
-        record.fieldStream().forEach(Unchecked.consumer(field -> {
+        return plan;
+    }
+
+    /**
+     * 変換の計画を生成します。
+     *
+     * @param row レコードのフィールド
+     * @return 変換の計画
+     * @throws NoSuchMethodException Bean を生成するコンストラクタが見つからない場合
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Plan createPlan(final Row row) {
+        if (beanClass.isRecord()) {
+            final RecordComponent[] components = beanClass.getRecordComponents();
+
+            final Constructor<B> constructor = beanClass.getConstructor(
+                    Stream.of(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+
+            return createConstructorPlan(row, constructor, Stream.of(components).map(RecordComponent::getName).toList());
+        }
+
+        final Constructor<?>[] constructors = beanClass.getConstructors();
+
+        if (Stream.of(constructors).anyMatch(constructor -> constructor.getParameterCount() == 0)) {
+            return createPropertyPlan(row);
+        }
+
+        if (constructors.length != 1) {
+            throw new NoSuchMethodException(beanClass.getName() + " に引数のないコンストラクタ、または唯一のコンストラクタが存在しません。");
+        }
+
+        return createConstructorPlan(row, constructors[0], getParameterNames(constructors[0]));
+    }
+
+    /**
+     * 引数のないコンストラクタで Bean を生成し、プロパティに値を設定する変換の計画を生成します。<br />
+     * レコードのフィールド名をキャメルケースに変換した名前のプロパティのうち、書き込み可能なプロパティに値を設定します。
+     *
+     * @param row レコードのフィールド
+     * @return 変換の計画
+     * @throws ReflectiveOperationException コンストラクタやセッターにアクセスできない場合
+     */
+    private Plan createPropertyPlan(final Row row) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        final MethodHandle constructor = MethodHandles.dropArguments(
+                lookup.findConstructor(beanClass, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class)),
+                0, Object[].class);
+
+        final Map<String, PropertyDescriptor> descriptors = Stream.of(PropertyUtils.getPropertyDescriptors(beanClass))
+                .collect(Collectors.toMap(PropertyDescriptor::getName, Function.identity()));
+
+        final List<PropertyPlan> properties = new ArrayList<>();
+
+        for (final Field<?> field : row.fields()) {
             final String propertyName = CaseFormat.CAMEL_CASE.convert(field.getName());
 
-            if (!PropertyUtils.isWriteable(bean, propertyName)) {
-                return;
+            final PropertyDescriptor descriptor = descriptors.get(propertyName);
+
+            final Method writeMethod = Objects.nonNull(descriptor) ? PropertyUtils.getWriteMethod(descriptor) : null;
+
+            final Class<?> propertyType = Objects.nonNull(descriptor) ? descriptor.getPropertyType() : null;
+
+            if (Objects.isNull(writeMethod) || Objects.isNull(propertyType)) {
+                continue;
+            }
+
+            final MethodHandle setter = lookup.unreflect(writeMethod)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            properties.add(new PropertyPlan(createValuePlan(row.indexOf(field.getQualifiedName()), propertyType), setter));
+        }
+
+        return new Plan(constructor, new ValuePlan[0], properties.toArray(PropertyPlan[]::new));
+    }
+
+    /**
+     * コンストラクタに値を渡して Bean を生成する変換の計画を生成します。<br />
+     * 引数名がある場合はフィールド名をキャメルケースに変換した名前で、それ以外の場合は位置でフィールドと対応させます。
+     * 対応するフィールドがない引数には {@code null}（プリミティブ型の場合はデフォルト値）を渡します。
+     *
+     * @param row            レコードのフィールド
+     * @param constructor    コンストラクタ
+     * @param parameterNames 引数名（取得できない場合は {@code null}）
+     * @return 変換の計画
+     * @throws IllegalAccessException コンストラクタにアクセスできない場合
+     */
+    private Plan createConstructorPlan(final Row row, final Constructor<?> constructor, final List<String> parameterNames)
+            throws IllegalAccessException {
+        final Class<?>[] parameterTypes = constructor.getParameterTypes();
+
+        final Map<String, Integer> indexes = new HashMap<>();
+
+        for (final Field<?> field : row.fields()) {
+            indexes.putIfAbsent(CaseFormat.CAMEL_CASE.convert(field.getName()), row.indexOf(field.getQualifiedName()));
+        }
+
+        final ValuePlan[] arguments = new ValuePlan[parameterTypes.length];
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final int index;
+
+            if (Objects.nonNull(parameterNames)) {
+                index = indexes.getOrDefault(parameterNames.get(i), -1);
+            } else {
+                index = i < row.size() ? i : -1;
             }
 
-            final Class<?> propertyType = PropertyUtils.getPropertyType(bean, propertyName);
+            arguments[i] = createValuePlan(index, parameterTypes[i]);
+        }
 
-            final DataType<?> dataType = DefaultDataType.getDataType(configuration.dialect(), propertyType);
+        final MethodHandle handle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
 
-            final Object value = record.get(field.getQualifiedName(), dataType.getConverter());
+        return new Plan(handle, arguments, new PropertyPlan[0]);
+    }
 
-            BeanUtils.setProperty(bean, propertyName, value);
-        }));
+    /**
+     * コンストラクタの引数名を取得します。
+     *
+     * @param constructor コンストラクタ
+     * @return 引数名（取得できない場合は {@code null}）
+     */
+    private static List<String> getParameterNames(final Constructor<?> constructor) {
+        final ConstructorProperties constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
 
-        return bean;
+        if (Objects.nonNull(constructorProperties) && constructorProperties.value().length == constructor.getParameterCount()) {
+            return List.of(constructorProperties.value());
+        }
+
+        final Parameter[] parameters = constructor.getParameters();
+
+        if (Stream.of(parameters).allMatch(Parameter::isNamePresent)) {
+            return Stream.of(parameters).map(Parameter::getName).toList();
+        }
+
+        return null;
+    }
+
+    /**
+     * 値の変換の計画を生成します。
+     *
+     * @param index レコードの列の位置（対応する列がない場合は {@code -1}）
+     * @param type  値の型
+     * @return 値の変換の計画
+     */
+    private ValuePlan createValuePlan(final int index, final Class<?> type) {
+        final Converter<?, ?> converter = DefaultDataType.getDataType(configuration.dialect(), type).getConverter();
+
+        return new ValuePlan(index, converter, type, ClassUtils.primitiveToWrapper(type));
+    }
+
+    /**
+     * 変換の計画のキーです。
+     *
+     * @param fieldNames レコードのフィールドの修飾名
+     * @param dialect    SQL の方言
+     * @author hamana
+     */
+    private record PlanKey(List<Name> fieldNames, SQLDialect dialect) {
+    }
+
+    /**
+     * 変換の計画です。
+     *
+     * @param constructor Bean のコンストラクタ（引数の配列を受け取ります）
+     * @param arguments   コンストラクタの引数ごとの値の変換の計画
+     * @param properties  プロパティごとの変換の計画
+     * @author hamana
+     */
+    private record Plan(MethodHandle constructor, ValuePlan[] arguments, PropertyPlan[] properties) {
+    }
+
+    /**
+     * 直前に使用したレコードのフィールドと変換の計画です。
+     *
+     * @param row  レコードのフィールド
+     * @param plan 変換の計画
+     * @author hamana
+     */
+    private record LastPlan(Row row, Plan plan) {
+    }
+
+    /**
+     * プロパティごとの変換の計画です。
+     *
+     * @param value  値の変換の計画
+     * @param setter プロパティのセッター
+     * @author hamana
+     */
+    private record PropertyPlan(ValuePlan value, MethodHandle setter) {
+    }
+
+    /**
+     * 値の変換の計画です。
+     *
+     * @param index     レコードの列の位置（対応する列がない場合は {@code -1}）
+     * @param converter 列の値を変換するコンバータ
+     * @param type      値の型
+     * @param valueType 直接設定できる値の型（プリミティブ型の場合はラッパー型）
+     * @author hamana
+     */
+    private record ValuePlan(int index, Converter<?, ?> converter, Class<?> type, Class<?> valueType) {
+        /**
+         * レコードから値を取得します。<br />
+         * 値を直接設定できない場合は、{@link BeanUtilsBean} に登録されているコンバータで変換します。
+         *
+         * @param record レコード
+         * @return 値
+         */
+        Object get(final Record record) {
+            final Object value = index >= 0 ? record.get(index, converter) : null;
+
+            if (valueType.isInstance(value)) {
+                return value;
+            }
+
+            return BeanUtilsBean.getInstance().getConvertUtils().convert(value, type);
+        }
     }
 }
@@ -108,6 +108,19 @@ class PageTest {
         assertThat(page.getTotalPages()).isEqualTo((int) Math.ceil((double) totalElements / page.getSize()));
     }
 
+    /**
+     * {@link Page#isTotalExact()} のテストです。
+     */
+    @Test
+    void testIsTotalExact() {
+        final List<Foo> elements = filler(Foo::new).list(ints().range(1, 10)).get();
+        final int totalElements = ints().lowerBound(elements.size()).get();
+
+        assertThat(new Page<>(pageRequest, elements, totalElements).isTotalExact()).isTrue();
+        assertThat(new Page<>(pageRequest, elements, totalElements, false).isTotalExact()).isFalse();
+        assertThat(new Page<>(pageRequest, elements, totalElements, false).map(Function.identity()).isTotalExact()).isFalse();
+    }
+
     /**
      * {@link Page#hasElements()} のテストです。
      */
@@ -0,0 +1,88 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.data.pagination;
+
+import static net.andreinc.mockneat.unit.types.Ints.ints;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SeekPageRequest} のテストです。
+ *
+ * @author hamana
+ */
+class SeekPageRequestTest {
+    /**
+     * {@link SeekPageRequest#of(int)} のテストです。
+     */
+    @Test
+    void testOf() {
+        final int pageSize = ints().lowerBound(1).get();
+
+        final SeekPageRequest pageRequest = SeekPageRequest.of(pageSize);
+        assertThat(pageRequest.getPageNumber()).isEqualTo(1);
+        assertThat(pageRequest.getPageSize()).isEqualTo(pageSize);
+        assertThat(pageRequest.getSeekValues()).isEmpty();
+
+        Stream.of(0, Integer.MIN_VALUE).forEach(invalidPageSize -> {
+            assertThatIllegalArgumentException().isThrownBy(() -> SeekPageRequest.of(invalidPageSize));
+        });
+    }
+
+    /**
+     * {@link SeekPageRequest#next(List)} のテストです。
+     */
+    @Test
+    void testNext() {
+        final int pageSize = ints().range(1, 100).get();
+
+        final SeekPageRequest first = SeekPageRequest.of(pageSize);
+
+        // シーク値には null も指定可能
+        final SeekPageRequest second = first.next(Arrays.asList("foo", null));
+        assertThat(second.getPageNumber()).isEqualTo(2);
+        assertThat(second.getPageSize()).isEqualTo(pageSize);
+        assertThat(second.getSeekValues()).containsExactly("foo", null);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> first.next(List.of()));
+        assertThatNullPointerException().isThrownBy(() -> first.next(null));
+    }
+
+    /**
+     * {@link SeekPageRequest#first()}、{@link SeekPageRequest#previous()}、{@link SeekPageRequest#hasPrevious()} のテストです。
+     */
+    @Test
+    void testPrevious() {
+        final SeekPageRequest first = SeekPageRequest.of(ints().lowerBound(1).get());
+        final SeekPageRequest second = first.next(List.of(1));
+        final SeekPageRequest third = second.next(List.of(2));
+
+        assertThat(first.hasPrevious()).isFalse();
+        assertThat(first.previous()).isSameAs(first);
+        assertThat(first.first()).isSameAs(first);
+
+        assertThat(third.hasPrevious()).isTrue();
+        assertThat(third.previous()).isSameAs(second);
+        assertThat(third.first()).isSameAs(first);
+    }
+}
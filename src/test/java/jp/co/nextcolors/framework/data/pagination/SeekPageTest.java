@@ -0,0 +1,101 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.data.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SeekPage} のテストです。
+ *
+ * @author hamana
+ */
+class SeekPageTest {
+    /**
+     * {@link SeekPage#SeekPage(SeekPageRequest, List, SeekPageRequest)} のテストです。
+     */
+    @Test
+    void testConstructor() {
+        final SeekPageRequest pageRequest = SeekPageRequest.of(2);
+
+        assertThatNullPointerException().isThrownBy(() -> new SeekPage<String>(null, List.of(), null));
+        assertThatNullPointerException().isThrownBy(() -> new SeekPage<String>(pageRequest, null, null));
+    }
+
+    /**
+     * 次のページが存在する場合のテストです。
+     */
+    @Test
+    void testHasNext() {
+        final SeekPageRequest pageRequest = SeekPageRequest.of(2);
+        final SeekPageRequest nextPageRequest = pageRequest.next(List.of("bar"));
+
+        final SeekPage<String> page = new SeekPage<>(pageRequest, List.of("foo", "bar"), nextPageRequest);
+        assertThat(page.getNumber()).isEqualTo(1);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getNumberOfElements()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.isTotalExact()).isFalse();
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.hasElements()).isTrue();
+        assertThat(page.isFirst()).isTrue();
+        assertThat(page.isLast()).isFalse();
+        assertThat(page.hasPrevious()).isFalse();
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getPreviousPageRequest()).isSameAs(pageRequest);
+        assertThat(page.getNextPageRequest()).isSameAs(nextPageRequest);
+    }
+
+    /**
+     * 最後のページのテストです。
+     */
+    @Test
+    void testLast() {
+        final SeekPageRequest pageRequest = SeekPageRequest.of(2).next(List.of("bar"));
+
+        final SeekPage<String> page = new SeekPage<>(pageRequest, List.of("baz"), null);
+        assertThat(page.getNumber()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.isFirst()).isFalse();
+        assertThat(page.isLast()).isTrue();
+        assertThat(page.hasPrevious()).isTrue();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getPreviousPageRequest()).isEqualTo(SeekPageRequest.of(2));
+        assertThat(page.getNextPageRequest()).isSameAs(pageRequest);
+    }
+
+    /**
+     * {@link SeekPage#map(Function)} のテストです。
+     */
+    @Test
+    void testMap() {
+        final SeekPageRequest pageRequest = SeekPageRequest.of(2);
+        final SeekPageRequest nextPageRequest = pageRequest.next(List.of("bar"));
+
+        final SeekPage<Integer> page = new SeekPage<>(pageRequest, List.of("foo", "bar"), nextPageRequest).map(String::length);
+        assertThat(page.getElements()).containsExactly(3, 3);
+        assertThat(page.getNextPageRequest()).isSameAs(nextPageRequest);
+
+        assertThatNullPointerException().isThrownBy(() -> page.map(null));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.enumeration.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * {@link CodeEnumIndex} のテストです。
+ *
+ * @author hamana
+ */
+class CodeEnumIndexTest {
+    /**
+     * {@link CodeEnumIndex#of(Class)} のテストです。
+     */
+    @Test
+    void testOf() {
+        assertThat(CodeEnumIndex.of(Foo.class)).isSameAs(CodeEnumIndex.of(Foo.class));
+
+        assertThatNullPointerException().isThrownBy(() -> CodeEnumIndex.of(null));
+    }
+
+    /**
+     * {@link CodeEnumIndex#get(Object)} のテストです。
+     */
+    @Test
+    void testGet() {
+        final CodeEnumIndex<Foo, String> index = CodeEnumIndex.of(Foo.class);
+
+        assertThat(index.get("bar")).isEqualTo(Foo.BAR);
+        assertThat(index.get("qux")).isNull();
+
+        // 同じコードを持つ場合は先に宣言された列挙型定数
+        assertThat(index.get("baz")).isEqualTo(Foo.BAZ);
+
+        assertThatNullPointerException().isThrownBy(() -> index.get(null));
+    }
+
+    /**
+     * {@link CodeEnumIndex#get(long)} のテストです。
+     */
+    @Test
+    void testGetLong() {
+        final CodeEnumIndex<Bar, Integer> index = CodeEnumIndex.of(Bar.class);
+
+        assertThat(index.get(1L)).isEqualTo(Bar.ONE);
+        assertThat(index.get(3L)).isNull();
+
+        // コードが整数ではない列挙型
+        assertThat(CodeEnumIndex.of(Foo.class).get(0L)).isNull();
+    }
+
+    /**
+     * {@link CodeEnumIndex#contains(Object)} のテストです。
+     */
+    @Test
+    void testContains() {
+        final CodeEnumIndex<Foo, String> index = CodeEnumIndex.of(Foo.class);
+
+        assertThat(index.contains("bar")).isTrue();
+        assertThat(index.contains("qux")).isFalse();
+        assertThat(index.contains(null)).isFalse();
+    }
+
+    /**
+     * {@link CodeEnumIndex#getCodes()} のテストです。
+     */
+    @Test
+    void testGetCodes() {
+        // 宣言順で、コードが null の列挙型定数は含まない
+        assertThat(CodeEnumIndex.of(Foo.class).getCodes()).containsExactly("bar", "baz");
+        assertThat(CodeEnumIndex.of(Foo.class).getCodes()).isSameAs(CodeEnumIndex.of(Foo.class).getCodes());
+    }
+
+    /**
+     * {@link CodeEnumIndex#getCodeClass()} のテストです。
+     */
+    @Test
+    void testGetCodeClass() {
+        assertThat(CodeEnumIndex.of(Foo.class).getCodeClass()).isEqualTo(String.class);
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private enum Foo implements ICodeEnum<Foo, String> {
+        BAR("bar"),
+        BAZ("baz"),
+        DUPLICATE_BAZ("baz"),
+        NONE(null);
+
+        @Getter
+        private final String code;
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private enum Bar implements ICodeEnum<Bar, Integer> {
+        ONE(1),
+        TWO(2);
+
+        @Getter
+        private final Integer code;
+    }
+}
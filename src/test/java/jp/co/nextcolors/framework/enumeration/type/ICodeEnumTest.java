@@ -52,6 +52,37 @@ class ICodeEnumTest {
         assertThatNullPointerException().isThrownBy(() -> ICodeEnum.codeOf(null, from(Foo.class).get().getCode()));
     }
 
+    /**
+     * {@link ICodeEnum#codeOfInt(Class, int)} のテストです。
+     */
+    @Test
+    void testCodeOfInt() {
+        Stream.of(Foo.values()).forEach(value ->
+                assertThat(ICodeEnum.codeOfInt(Foo.class, value.getCode())).isEqualTo(value)
+        );
+
+        // 含まれていないコード
+        assertThatIllegalArgumentException().isThrownBy(() -> ICodeEnum.codeOfInt(Foo.class, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> ICodeEnum.codeOfInt(Foo.class, -1));
+
+        assertThatNullPointerException().isThrownBy(() -> ICodeEnum.codeOfInt(null, 0));
+    }
+
+    /**
+     * {@link ICodeEnum#codeOfLong(Class, long)} のテストです。
+     */
+    @Test
+    void testCodeOfLong() {
+        Stream.of(Qux.values()).forEach(value ->
+                assertThat(ICodeEnum.codeOfLong(Qux.class, value.getCode())).isEqualTo(value)
+        );
+
+        // 含まれていないコード
+        assertThatIllegalArgumentException().isThrownBy(() -> ICodeEnum.codeOfLong(Qux.class, 0L));
+
+        assertThatNullPointerException().isThrownBy(() -> ICodeEnum.codeOfLong(null, Long.MAX_VALUE));
+    }
+
     /**
      * {@link ICodeEnum#isValidCode(Class, Object)} のテストです。
      */
@@ -62,6 +93,7 @@ class ICodeEnumTest {
         );
 
         assertThat(ICodeEnum.isValidCode(Foo.class, 2)).isFalse();
+        assertThat(ICodeEnum.isValidCode(Foo.class, null)).isFalse();
 
         assertThatNullPointerException().isThrownBy(() -> ICodeEnum.isValidCode(null, from(Foo.class).get().getCode()));
     }
@@ -71,7 +103,8 @@ class ICodeEnumTest {
      */
     @Test
     void testCodes() {
-        assertThat(ICodeEnum.codes(Foo.class)).containsExactlyInAnyOrder(Stream.of(Foo.values()).map(Foo::getCode).toArray(Integer[]::new));
+        assertThat(ICodeEnum.codes(Foo.class)).containsExactly(Stream.of(Foo.values()).map(Foo::getCode).toArray(Integer[]::new));
+        assertThat(ICodeEnum.codes(Foo.class)).isSameAs(ICodeEnum.codes(Foo.class));
 
         assertThatNullPointerException().isThrownBy(() -> ICodeEnum.codes(null));
     }
@@ -95,4 +128,14 @@ class ICodeEnumTest {
         @NonNull
         private final Integer code;
     }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private enum Qux implements ICodeEnum<Qux, Long> {
+        MIN(Long.MIN_VALUE),
+        MAX(Long.MAX_VALUE);
+
+        @Getter
+        @NonNull
+        private final Long code;
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.enumeration.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LongCodeTable} のテストです。
+ *
+ * @author hamana
+ */
+class LongCodeTableTest {
+    /**
+     * {@link LongCodeTable#of(Map)} のテストです。
+     */
+    @Test
+    void testOf() {
+        assertThat(LongCodeTable.of(Map.of()).get(0)).isNull();
+
+        assertThatNullPointerException().isThrownBy(() -> LongCodeTable.of(null));
+    }
+
+    /**
+     * コードの範囲が狭い場合の {@link LongCodeTable#get(long)} のテストです。
+     */
+    @Test
+    void testGetDense() {
+        final LongCodeTable<String> table = LongCodeTable.of(Map.of(-1, "foo", 0, "bar", 2, "baz"));
+
+        assertThat(table.get(-1)).isEqualTo("foo");
+        assertThat(table.get(0)).isEqualTo("bar");
+        assertThat(table.get(2)).isEqualTo("baz");
+
+        assertThat(table.get(1)).isNull();
+        assertThat(table.get(-2)).isNull();
+        assertThat(table.get(3)).isNull();
+        assertThat(table.get(Long.MIN_VALUE)).isNull();
+        assertThat(table.get(Long.MAX_VALUE)).isNull();
+    }
+
+    /**
+     * コードの範囲が広い場合の {@link LongCodeTable#get(long)} のテストです。
+     */
+    @Test
+    void testGetSparse() {
+        final Map<Long, String> constants = LongStream.range(0, 100)
+                .map(i -> i * 1_000_003L - 50_000_000L)
+                .boxed()
+                .collect(Collectors.toMap(Function.identity(), String::valueOf));
+
+        final LongCodeTable<String> table = LongCodeTable.of(constants);
+
+        constants.forEach((code, constant) -> assertThat(table.get(code)).isEqualTo(constant));
+
+        assertThat(table.get(1)).isNull();
+        assertThat(table.get(Long.MIN_VALUE)).isNull();
+
+        // long の範囲を超えるコードの範囲
+        final LongCodeTable<String> extremeTable = LongCodeTable.of(Map.of(Long.MIN_VALUE, "min", Long.MAX_VALUE, "max"));
+
+        assertThat(extremeTable.get(Long.MIN_VALUE)).isEqualTo("min");
+        assertThat(extremeTable.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(extremeTable.get(0)).isNull();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import org.apache.commons.beanutils2.ConvertUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CodeConversion} のテストです。
+ *
+ * @author hamana
+ */
+class CodeConversionTest {
+    /**
+     * {@link CodeConversion#of(Class, Class)} のテストです。
+     */
+    @Test
+    void testOf() {
+        assertThat(CodeConversion.of(Integer.class, Integer.class)).isEqualTo(CodeConversion.IDENTITY);
+        assertThat(CodeConversion.of(Integer.class, Number.class)).isEqualTo(CodeConversion.IDENTITY);
+        assertThat(CodeConversion.of(Long.class, String.class)).isEqualTo(CodeConversion.TO_STRING);
+        assertThat(CodeConversion.of(Long.class, Integer.class)).isEqualTo(CodeConversion.INTEGRAL);
+        assertThat(CodeConversion.of(String.class, Short.class)).isEqualTo(CodeConversion.INTEGRAL);
+        assertThat(CodeConversion.of(BigDecimal.class, Long.class)).isEqualTo(CodeConversion.INTEGRAL);
+        assertThat(CodeConversion.of(Double.class, Integer.class)).isEqualTo(CodeConversion.CONVERT_UTILS);
+        assertThat(CodeConversion.of(LocalDate.class, String.class)).isEqualTo(CodeConversion.CONVERT_UTILS);
+
+        assertThatNullPointerException().isThrownBy(() -> CodeConversion.of(null, Integer.class));
+        assertThatNullPointerException().isThrownBy(() -> CodeConversion.of(Integer.class, null));
+    }
+
+    /**
+     * {@link CodeConversion#convert(Object, Class)} のテストです。
+     */
+    @Test
+    void testConvert() {
+        final Integer code = 1_000;
+        assertThat(CodeConversion.IDENTITY.convert(code, Integer.class)).isSameAs(code);
+
+        assertThat(CodeConversion.TO_STRING.convert(1L, String.class)).isEqualTo("1");
+
+        assertThat(CodeConversion.INTEGRAL.convert(1L, Integer.class)).isEqualTo(1);
+        assertThat(CodeConversion.INTEGRAL.convert(1, Long.class)).isEqualTo(1L);
+        assertThat(CodeConversion.INTEGRAL.convert("1", Short.class)).isEqualTo((short) 1);
+        assertThat(CodeConversion.INTEGRAL.convert(1, Byte.class)).isEqualTo((byte) 1);
+        assertThat(CodeConversion.INTEGRAL.convert(1, BigInteger.class)).isEqualTo(BigInteger.ONE);
+        assertThat(CodeConversion.INTEGRAL.convert(1, BigDecimal.class)).isEqualTo(BigDecimal.ONE);
+        assertThat(CodeConversion.INTEGRAL.convert(new BigDecimal("1.00"), Integer.class)).isEqualTo(1);
+
+        // 直接変換できない値は ConvertUtils で変換
+        assertThat(CodeConversion.INTEGRAL.convert(new BigDecimal("1.5"), Integer.class))
+                .isEqualTo(ConvertUtils.convert(new BigDecimal("1.5"), Integer.class));
+
+        // null は ConvertUtils で変換
+        final Object value = null;
+        assertThat(CodeConversion.IDENTITY.convert(value, Long.class)).isEqualTo(ConvertUtils.convert(value, Long.class));
+
+        assertThatNullPointerException().isThrownBy(() -> CodeConversion.IDENTITY.convert(code, null));
+    }
+}
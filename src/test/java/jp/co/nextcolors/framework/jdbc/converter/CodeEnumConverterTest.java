@@ -51,6 +51,12 @@ class CodeEnumConverterTest {
 
         // 含まれていないコード
         assertThatIllegalArgumentException().isThrownBy(() -> converter.from(2L));
+
+        // 型が一致する場合と文字列の場合
+        Stream.of(Foo.values()).forEach(value -> {
+            assertThat(new FooIntegerConverter().from(value.getCode())).isEqualTo(value);
+            assertThat(new FooStringConverter().from(value.getCode().toString())).isEqualTo(value);
+        });
     }
 
     /**
@@ -64,6 +70,12 @@ class CodeEnumConverterTest {
 
         // null
         assertThat(converter.to(null)).isNull();
+
+        // 型が一致する場合と文字列の場合
+        Stream.of(Foo.values()).forEach(value -> {
+            assertThat(new FooIntegerConverter().to(value)).isSameAs(value.getCode());
+            assertThat(new FooStringConverter().to(value)).isEqualTo(value.getCode().toString());
+        });
     }
 
     /**
@@ -95,4 +107,12 @@ class CodeEnumConverterTest {
     @SuppressWarnings("serial")
     private static class FooConverter extends CodeEnumConverter<Foo, Integer, Long> {
     }
+
+    @SuppressWarnings("serial")
+    private static class FooIntegerConverter extends CodeEnumConverter<Foo, Integer, Integer> {
+    }
+
+    @SuppressWarnings("serial")
+    private static class FooStringConverter extends CodeEnumConverter<Foo, Integer, String> {
+    }
 }
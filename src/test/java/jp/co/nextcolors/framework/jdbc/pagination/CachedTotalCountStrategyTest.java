@@ -0,0 +1,122 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.jooq.DSLContext;
+import org.jooq.Select;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link CachedTotalCountStrategy} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class CachedTotalCountStrategyTest {
+    @Mock
+    private ITotalCountStrategy delegate;
+
+    @Mock
+    private DSLContext dslContext;
+
+    @Mock
+    private Select<?> foo;
+
+    @Mock
+    private Select<?> bar;
+
+    /**
+     * {@link CachedTotalCountStrategy#CachedTotalCountStrategy(ITotalCountStrategy, Duration, int)} のテストです。
+     */
+    @Test
+    void testConstructor() {
+        assertThatNullPointerException().isThrownBy(() -> new CachedTotalCountStrategy(null, Duration.ZERO, 1));
+        assertThatNullPointerException().isThrownBy(() -> new CachedTotalCountStrategy(delegate, null, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachedTotalCountStrategy(delegate, Duration.ofSeconds(-1), 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachedTotalCountStrategy(delegate, Duration.ZERO, 0));
+    }
+
+    /**
+     * {@link CachedTotalCountStrategy#count(DSLContext, Select)} のテストです。
+     */
+    @Test
+    void testCount() {
+        final CachedTotalCountStrategy strategy = new CachedTotalCountStrategy(delegate, Duration.ofHours(1), 1);
+
+        when(dslContext.renderInlined(foo)).thenReturn("select * from foo");
+        when(dslContext.renderInlined(bar)).thenReturn("select * from bar");
+        when(delegate.count(dslContext, foo)).thenReturn(Optional.of(TotalCount.exact(100)));
+        when(delegate.count(dslContext, bar)).thenReturn(Optional.of(TotalCount.exact(200)));
+
+        // キャッシュした要素の総数はおおよその要素の総数
+        assertThat(strategy.count(dslContext, foo)).contains(TotalCount.exact(100));
+        assertThat(strategy.count(dslContext, foo)).contains(TotalCount.approximate(100));
+        verify(delegate, times(1)).count(dslContext, foo);
+
+        // 上限を超えた場合は最も長い間使用されていない要素の総数を破棄
+        assertThat(strategy.count(dslContext, bar)).contains(TotalCount.exact(200));
+        assertThat(strategy.size()).isEqualTo(1);
+        assertThat(strategy.count(dslContext, foo)).contains(TotalCount.exact(100));
+        verify(delegate, times(2)).count(dslContext, foo);
+
+        strategy.invalidateAll();
+        assertThat(strategy.size()).isZero();
+
+        assertThatNullPointerException().isThrownBy(() -> strategy.count(null, foo));
+        assertThatNullPointerException().isThrownBy(() -> strategy.count(dslContext, null));
+    }
+
+    /**
+     * キャッシュする期間が経過した場合のテストです。
+     */
+    @Test
+    void testExpire() {
+        final CachedTotalCountStrategy strategy = new CachedTotalCountStrategy(delegate, Duration.ZERO, 1);
+
+        when(dslContext.renderInlined(foo)).thenReturn("select * from foo");
+        when(delegate.count(dslContext, foo)).thenReturn(Optional.of(TotalCount.exact(100)));
+
+        assertThat(strategy.count(dslContext, foo)).contains(TotalCount.exact(100));
+        assertThat(strategy.count(dslContext, foo)).contains(TotalCount.exact(100));
+        verify(delegate, times(2)).count(dslContext, foo);
+    }
+
+    /**
+     * 要素の総数を数えない方針に委譲した場合のテストです。
+     */
+    @Test
+    void testHasNextOnly() {
+        final CachedTotalCountStrategy strategy = new CachedTotalCountStrategy(ITotalCountStrategy.hasNextOnly(), Duration.ofHours(1), 1);
+
+        when(dslContext.renderInlined(foo)).thenReturn("select * from foo");
+
+        assertThat(strategy.count(dslContext, foo)).isEmpty();
+        assertThat(strategy.size()).isZero();
+    }
+}
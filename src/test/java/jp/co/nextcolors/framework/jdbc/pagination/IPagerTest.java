@@ -0,0 +1,116 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.jooq.Condition;
+import org.jooq.OrderField;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jp.co.nextcolors.framework.data.pagination.IPage;
+import jp.co.nextcolors.framework.data.pagination.IPageRequest;
+import jp.co.nextcolors.framework.data.pagination.SeekPageRequest;
+
+/**
+ * {@link IPager} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class IPagerTest {
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private IPager<Object> pager;
+
+    @Mock
+    private IPageRequest pageRequest;
+
+    @Mock
+    private IPage<Object> page;
+
+    @Mock
+    private Table<? extends TableRecord<?>> table;
+
+    /**
+     * {@link IPager#fetchPageAsync(IPageRequest, Table, Condition, OrderField...)} と
+     * {@link IPager#fetchPageAsync(IPageRequest, Table, Condition, java.util.Collection)} のテストです。
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    void testFetchPageAsync() {
+        final Table rawTable = table;
+        final Condition condition = DSL.noCondition();
+        final OrderField<?> order = DSL.field("id").asc();
+
+        doReturn(page).when(pager).fetchPage(pageRequest, rawTable, condition, List.of(order));
+        assertThat(pager.fetchPageAsync(pageRequest, rawTable, condition, order).toCompletableFuture().join()).isSameAs(page);
+        reset(pager);
+    }
+
+    /**
+     * {@link IPager#fetchPageBySqlFileAsync(IPageRequest, Path)} と
+     * {@link IPager#fetchPageBySqlFileAsync(IPageRequest, Path, Map)} のテストです。
+     */
+    @Test
+    void testFetchPageBySqlFileAsync() {
+        final Path sqlFilePath = Path.of("foo.sql");
+
+        doReturn(page).when(pager).fetchPageBySqlFile(pageRequest, sqlFilePath, Collections.emptyMap());
+        assertThat(pager.fetchPageBySqlFileAsync(pageRequest, sqlFilePath).toCompletableFuture().join()).isSameAs(page);
+        reset(pager);
+    }
+
+    /**
+     * {@link IPager#fetchSeekPage(SeekPageRequest, Table, Condition, OrderField...)} のテストです。
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Test
+    void testFetchSeekPage() {
+        final Table rawTable = table;
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> pager.fetchSeekPage(SeekPageRequest.of(10), rawTable, DSL.noCondition(), DSL.field("id").asc()));
+    }
+
+    /**
+     * {@link IPager#withCountMode(CountMode)}、{@link IPager#withTotalCountStrategy(ITotalCountStrategy)}、
+     * {@link IPager#withParallel(boolean)}、{@link IPager#withExecutor(Executor)} のテストです。
+     */
+    @Test
+    void testWith() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> pager.withCountMode(CountMode.WINDOW));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> pager.withTotalCountStrategy(ITotalCountStrategy.exact()));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> pager.withParallel(true));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> pager.withExecutor(Runnable::run));
+    }
+}
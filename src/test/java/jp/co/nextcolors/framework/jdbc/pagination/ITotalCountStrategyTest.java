@@ -0,0 +1,118 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import static net.andreinc.mockneat.unit.types.Ints.ints;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.jooq.DSLContext;
+import org.jooq.Explain;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link ITotalCountStrategy} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class ITotalCountStrategyTest {
+    @Mock
+    private DSLContext dslContext;
+
+    @Mock
+    private Select<?> query;
+
+    @Mock
+    private Explain explain;
+
+    /**
+     * {@link ITotalCountStrategy#exact()} のテストです。
+     */
+    @Test
+    void testExact() {
+        final int totalCount = ints().range(0, 1000).get();
+
+        when(dslContext.fetchCount(query)).thenReturn(totalCount);
+        assertThat(ITotalCountStrategy.exact().count(dslContext, query)).contains(TotalCount.exact(totalCount));
+        assertThat(ITotalCountStrategy.exact()).isSameAs(ITotalCountStrategy.exact());
+
+        assertThatNullPointerException().isThrownBy(() -> ITotalCountStrategy.exact().count(null, query));
+        assertThatNullPointerException().isThrownBy(() -> ITotalCountStrategy.exact().count(dslContext, null));
+    }
+
+    /**
+     * {@link ITotalCountStrategy#cached(Duration)} のテストです。
+     */
+    @Test
+    void testCached() {
+        final ITotalCountStrategy strategy = ITotalCountStrategy.cached(Duration.ofMinutes(1));
+
+        assertThat(strategy).isInstanceOf(CachedTotalCountStrategy.class);
+        assertThat(((CachedTotalCountStrategy) strategy).getDelegate()).isSameAs(ITotalCountStrategy.exact());
+        assertThat(ITotalCountStrategy.cached(Duration.ofMinutes(1))).isNotSameAs(strategy);
+
+        assertThatNullPointerException().isThrownBy(() -> ITotalCountStrategy.cached(null));
+    }
+
+    /**
+     * {@link ITotalCountStrategy#estimated()} のテストです。
+     */
+    @Test
+    void testEstimated() {
+        final ITotalCountStrategy strategy = ITotalCountStrategy.estimated();
+
+        // 統計情報から見積もる
+        when(dslContext.dialect()).thenReturn(SQLDialect.POSTGRES);
+        when(dslContext.explain(query)).thenReturn(explain);
+        when(explain.rows()).thenReturn(1234.4);
+        assertThat(strategy.count(dslContext, query)).contains(TotalCount.approximate(1234));
+        verify(dslContext, never()).fetchCount(query);
+
+        // 見積もり行数が分からない場合は正確に数える
+        when(explain.rows()).thenReturn(Double.NaN);
+        when(dslContext.fetchCount(query)).thenReturn(1000);
+        assertThat(strategy.count(dslContext, query)).contains(TotalCount.exact(1000));
+
+        // 見積もりをサポートしていない SQL の方言は正確に数える
+        when(dslContext.dialect()).thenReturn(SQLDialect.DERBY);
+        assertThat(strategy.count(dslContext, query)).contains(TotalCount.exact(1000));
+
+        assertThatNullPointerException().isThrownBy(() -> strategy.count(null, query));
+        assertThatNullPointerException().isThrownBy(() -> strategy.count(dslContext, null));
+    }
+
+    /**
+     * {@link ITotalCountStrategy#hasNextOnly()} のテストです。
+     */
+    @Test
+    void testHasNextOnly() {
+        assertThat(ITotalCountStrategy.hasNextOnly().count(dslContext, query)).isEqualTo(Optional.empty());
+        verifyNoInteractions(dslContext);
+    }
+}
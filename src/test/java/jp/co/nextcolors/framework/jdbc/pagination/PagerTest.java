@@ -0,0 +1,596 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jooq.ConnectionProvider;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.impl.TableRecordImpl;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import lombok.Data;
+
+import jp.co.nextcolors.framework.data.pagination.IPage;
+import jp.co.nextcolors.framework.data.pagination.PageRequest;
+import jp.co.nextcolors.framework.data.pagination.SeekPage;
+import jp.co.nextcolors.framework.data.pagination.SeekPageRequest;
+import jp.co.nextcolors.framework.jdbc.query.SqlTemplateCache;
+
+/**
+ * {@link Pager} のテストです。
+ *
+ * @author hamana
+ */
+class PagerTest {
+    /**
+     * テーブルに登録するレコードの数です。
+     */
+    private static final int TOTAL_ELEMENTS = 10;
+
+    /**
+     * ウィンドウ関数で数えた要素の総数のフィールド名です。
+     */
+    private static final String TOTAL_COUNT_FIELD_NAME = "pager_total_count";
+
+    /**
+     * DSL コンテキストです。
+     */
+    private static DSLContext dslContext;
+
+    /**
+     * テスト用のテーブルを作成します。
+     */
+    @BeforeAll
+    static void setUpAll() {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:pager;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=FALSE");
+
+        dslContext = DSL.using(dataSource, SQLDialect.H2);
+
+        dslContext.createTable(Account.ACCOUNT).columns(Account.ACCOUNT.fields()).execute();
+
+        IntStream.rangeClosed(1, TOTAL_ELEMENTS).forEach(id -> {
+            dslContext.insertInto(Account.ACCOUNT).values(id, "user" + id).execute();
+        });
+    }
+
+    /**
+     * {@link CountMode#WINDOW} で要素の総数をウィンドウ関数で数えるテストです。
+     */
+    @Test
+    void testFetchPageWithWindowCount() {
+        final List<String> executedSql = new CopyOnWriteArrayList<>();
+
+        // テーブルのレコードの数と区別するため、ウィンドウ関数の結果は異なる値にする
+        final DSLContext dslContext = createMockDslContext(SQLDialect.H2, executedSql, 42, List.of(4, 5, 6));
+
+        final IPage<AccountBean> page = new Pager<>(dslContext, AccountBean.class)
+                .withCountMode(CountMode.WINDOW)
+                .fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+        assertThat(executedSql).singleElement().asString().contains(TOTAL_COUNT_FIELD_NAME);
+
+        // 要素の総数のフィールドはページの要素にマッピングしない
+        assertThat(page.getElements()).extracting(AccountBean::getPagerTotalCount).containsOnlyNulls();
+    }
+
+    /**
+     * {@link CountMode#WINDOW} でページに要素が含まれない場合のテストです。
+     */
+    @Test
+    void testFetchPageWithWindowCountOnEmptyPage() {
+        // 最後のページより後のページは、要素の総数を別のクエリで数える
+        final List<String> executedSql = new CopyOnWriteArrayList<>();
+
+        final IPage<AccountBean> page = new Pager<>(createMockDslContext(SQLDialect.H2, executedSql, 42, List.of()), AccountBean.class)
+                .withCountMode(CountMode.WINDOW)
+                .fetchPage(new PageRequest(20, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        assertThat(page.hasElements()).isFalse();
+        assertThat(executedSql).hasSize(2);
+        assertThat(executedSql.get(1)).doesNotContain(TOTAL_COUNT_FIELD_NAME);
+
+        // 最初のページに要素が含まれない場合は、要素の総数を数えない
+        executedSql.clear();
+
+        final IPage<AccountBean> firstPage = new Pager<>(createMockDslContext(SQLDialect.H2, executedSql, 42, List.of()), AccountBean.class)
+                .withCountMode(CountMode.WINDOW)
+                .fetchPage(new PageRequest(1, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        assertThat(firstPage.getTotalElements()).isZero();
+        assertThat(executedSql).hasSize(1);
+    }
+
+    /**
+     * ウィンドウ関数をサポートしていない SQL の方言で {@link CountMode#WINDOW} を指定した場合のテストです。
+     */
+    @Test
+    void testFetchPageWithWindowCountOnUnsupportedDialect() {
+        Stream.of(SQLDialect.DERBY, SQLDialect.HSQLDB).forEach(dialect -> {
+            final List<String> executedSql = new CopyOnWriteArrayList<>();
+
+            final IPage<AccountBean> page = new Pager<>(createMockDslContext(dialect, executedSql, 42, List.of(4, 5, 6)), AccountBean.class)
+                    .withCountMode(CountMode.WINDOW)
+                    .fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+            // 要素の総数を別のクエリで数える
+            assertThat(page.getTotalElements()).isEqualTo(42);
+            assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+            assertThat(executedSql).hasSize(2).noneMatch(sql -> sql.contains(TOTAL_COUNT_FIELD_NAME));
+        });
+    }
+
+    /**
+     * {@link ITotalCountStrategy#hasNextOnly()} で要素の総数を数えない場合のテストです。
+     */
+    @Test
+    void testFetchPageWithoutTotalCount() {
+        final List<String> executedSql = new CopyOnWriteArrayList<>();
+        final List<Object> pageBindings = new CopyOnWriteArrayList<>();
+
+        final MockDataProvider provider = createMockDataProvider(SQLDialect.H2, executedSql, 42, List.of(4, 5, 6, 7));
+
+        final IPage<AccountBean> page = new Pager<>(DSL.using(new MockConnection(context -> {
+            pageBindings.addAll(Arrays.asList(context.bindings()));
+            return provider.execute(context);
+        }), SQLDialect.H2), AccountBean.class)
+                .withTotalCountStrategy(ITotalCountStrategy.hasNextOnly())
+                .fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        // 次のページが存在するかどうかを判定するため 1 件多く検索し、ページの要素からは除く
+        assertThat(executedSql).singleElement().asString().doesNotContain("count(");
+        assertThat(pageBindings).filteredOn(Number.class::isInstance).extracting(value -> ((Number) value).intValue()).contains(4);
+        assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.isTotalExact()).isFalse();
+    }
+
+    /**
+     * {@link Pager#withParallel(boolean)} でクエリを並列に実行するテストです。
+     */
+    @Test
+    void testFetchPageInParallel() {
+        final List<Object> pageBindings = new CopyOnWriteArrayList<>();
+        final AtomicInteger submittedTasks = new AtomicInteger();
+
+        final MockDataProvider provider = createMockDataProvider(SQLDialect.H2, new CopyOnWriteArrayList<>(), 42, List.of(4, 5, 6, 7));
+
+        final Executor executor = task -> {
+            submittedTasks.incrementAndGet();
+            task.run();
+        };
+
+        final IPage<AccountBean> page = new Pager<>(createPooledDslContext(context -> {
+            if (!context.sql().contains("count(")) {
+                pageBindings.addAll(Arrays.asList(context.bindings()));
+            }
+
+            return provider.execute(context);
+        }), AccountBean.class)
+                .withParallel(true)
+                .withExecutor(executor)
+                .fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        // 要素の総数を数えるクエリとページの要素を検索するクエリをそれぞれエグゼキュータで実行
+        assertThat(submittedTasks).hasValue(2);
+
+        // 要素の総数を数えるかどうかは検索前に分からないため、ページの要素は常に 1 件多く検索し、ページの要素からは除く
+        assertThat(pageBindings).filteredOn(Number.class::isInstance).extracting(value -> ((Number) value).intValue()).contains(4);
+        assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+        assertThat(page.getTotalElements()).isEqualTo(42);
+        assertThat(page.isTotalExact()).isTrue();
+    }
+
+    /**
+     * 1 つのコネクションを共有する DSL コンテキストで {@link Pager#withParallel(boolean)} を指定した場合のテストです。
+     */
+    @Test
+    void testFetchPageInParallelOnSingleConnection() {
+        final List<String> executedSql = new CopyOnWriteArrayList<>();
+        final AtomicInteger submittedTasks = new AtomicInteger();
+
+        final Executor executor = task -> {
+            submittedTasks.incrementAndGet();
+            task.run();
+        };
+
+        final IPage<AccountBean> page = new Pager<>(createMockDslContext(SQLDialect.H2, executedSql, 42, List.of(4, 5, 6)), AccountBean.class)
+                .withParallel(true)
+                .withExecutor(executor)
+                .fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+
+        // DefaultConnectionProvider ではエグゼキュータを使用せず、呼び出し元のスレッドで順番に実行する
+        assertThat(submittedTasks).hasValue(0);
+        assertThat(executedSql).hasSize(2);
+        assertThat(executedSql.get(0)).contains("count(");
+        assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+        assertThat(page.getTotalElements()).isEqualTo(42);
+    }
+
+    /**
+     * {@link Pager#withParallel(boolean)} で並列に実行したクエリが失敗した場合のテストです。
+     */
+    @Test
+    void testFetchPageInParallelWithFailure() {
+        final MockDataProvider provider = createMockDataProvider(SQLDialect.H2, new CopyOnWriteArrayList<>(), 42, List.of(4, 5, 6));
+
+        // 要素の総数を数えるクエリ、ページの要素を検索するクエリのそれぞれが失敗した場合
+        Stream.<Predicate<String>>of(sql -> sql.contains("count("), sql -> !sql.contains("count(")).forEach(failing -> {
+            final Pager<AccountBean> pager = new Pager<>(createPooledDslContext(context -> {
+                if (failing.test(context.sql())) {
+                    throw new SQLException("failure");
+                }
+
+                return provider.execute(context);
+            }), AccountBean.class).withParallel(true);
+
+            assertThatExceptionOfType(DataAccessException.class).isThrownBy(() -> {
+                pager.fetchPage(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc());
+            });
+
+            assertThat(pager.fetchPageAsync(new PageRequest(2, 3), Account.ACCOUNT, null, Account.ACCOUNT.id.asc()).toCompletableFuture())
+                    .failsWithin(Duration.ofSeconds(10))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(DataAccessException.class);
+        });
+    }
+
+    /**
+     * {@link Pager#fetchPageBySqlFile(jp.co.nextcolors.framework.data.pagination.IPageRequest, Path, Map)} のテストです。
+     *
+     * @param directory SQL ファイルを作成するディレクトリ
+     * @throws IOException SQL ファイルの書き込みに失敗した場合
+     */
+    @Test
+    void testFetchPageBySqlFile(@TempDir final Path directory) throws IOException {
+        // ページ付けの句を IF コメントで囲んだ SQL ファイル
+        final Path sqlFilePath = Files.writeString(directory.resolve("select.sql"), """
+                SELECT
+                    *
+                FROM
+                    account
+                WHERE
+                    id >= /*minId*/0
+                ORDER BY
+                    id
+                /*IF limit != null*/
+                LIMIT /*limit*/10
+                /*END*/
+                /*IF offset != null*/
+                OFFSET /*offset*/0
+                /*END*/
+                """);
+
+        final IPage<AccountBean> page = new Pager<>(dslContext, AccountBean.class)
+                .fetchPageBySqlFile(new PageRequest(2, 3), sqlFilePath, Map.of("minId", 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(TOTAL_ELEMENTS - 1);
+        assertThat(page.isTotalExact()).isTrue();
+        assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(5, 6, 7);
+    }
+
+    /**
+     * ページ付けのパラメータを条件に使用する SQL ファイルで {@link Pager#fetchPageBySqlFile(jp.co.nextcolors.framework.data.pagination.IPageRequest, Path, Map)} を実行するテストです。
+     *
+     * @param directory SQL ファイルを作成するディレクトリ
+     * @throws IOException SQL ファイルの書き込みに失敗した場合
+     */
+    @Test
+    void testFetchPageBySqlFileWithPagingCondition(@TempDir final Path directory) throws IOException {
+        // ページ付けのパラメータは整数の値で SQL ファイルに渡す
+        final Path sqlFilePath = Files.writeString(directory.resolve("select.sql"), """
+                SELECT
+                    *
+                FROM
+                    account
+                ORDER BY
+                    id
+                /*IF limit > 0*/
+                LIMIT /*limit*/10
+                /*END*/
+                /*IF offset > 0*/
+                OFFSET /*offset*/0
+                /*END*/
+                """);
+
+        final Pager<AccountBean> pager = new Pager<>(dslContext, AccountBean.class);
+
+        final IPage<AccountBean> first = pager.fetchPageBySqlFile(new PageRequest(1, 4), sqlFilePath);
+        assertThat(first.getTotalElements()).isEqualTo(TOTAL_ELEMENTS);
+        assertThat(first.getElements()).extracting(AccountBean::getId).containsExactly(1, 2, 3, 4);
+
+        final IPage<AccountBean> second = pager.fetchPageBySqlFile(new PageRequest(2, 4), sqlFilePath);
+        assertThat(second.getTotalElements()).isEqualTo(TOTAL_ELEMENTS);
+        assertThat(second.getElements()).extracting(AccountBean::getId).containsExactly(5, 6, 7, 8);
+    }
+
+    /**
+     * {@link Pager#fetchPageBySqlFile(jp.co.nextcolors.framework.data.pagination.IPageRequest, Path, Map)} で SQL ファイルを適用する回数のテストです。
+     *
+     * @param directory SQL ファイルを作成するディレクトリ
+     * @throws IOException SQL ファイルの書き込みに失敗した場合
+     */
+    @Test
+    void testFetchPageBySqlFileRenderCount(@TempDir final Path directory) throws IOException {
+        final Path sqlFilePath = Files.writeString(directory.resolve("select.sql"), """
+                SELECT
+                    *
+                FROM
+                    account
+                ORDER BY
+                    id
+                /*IF limit != null*/
+                LIMIT /*limit*/10 OFFSET /*offset*/0
+                /*END*/
+                """);
+
+        final SqlTemplateCache cache = spy(new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE));
+
+        try (final MockedStatic<SqlTemplateCache> templateCache = mockStatic(SqlTemplateCache.class)) {
+            templateCache.when(SqlTemplateCache::getInstance).thenReturn(cache);
+
+            final Pager<AccountBean> pager = new Pager<>(dslContext, AccountBean.class);
+
+            // 要素の総数を数える場合は、要素の総数を数えるクエリとページの要素を検索するクエリでそれぞれ 1 回適用
+            pager.fetchPageBySqlFile(new PageRequest(2, 3), sqlFilePath);
+            verify(cache, times(2)).get(eq(sqlFilePath), any());
+
+            // 要素の総数を数えない場合は、ページの要素を検索するクエリでのみ適用
+            clearInvocations(cache);
+
+            final IPage<AccountBean> page = pager.withTotalCountStrategy(ITotalCountStrategy.hasNextOnly())
+                    .fetchPageBySqlFile(new PageRequest(2, 3), sqlFilePath);
+            verify(cache, times(1)).get(eq(sqlFilePath), any());
+            assertThat(page.getElements()).extracting(AccountBean::getId).containsExactly(4, 5, 6);
+            assertThat(page.hasNext()).isTrue();
+        }
+    }
+
+    /**
+     * {@link Pager#fetchSeekPage(SeekPageRequest, org.jooq.Table, org.jooq.Condition, org.jooq.OrderField...)} のテストです。
+     */
+    @Test
+    void testFetchSeekPage() {
+        final Pager<AccountBean> pager = new Pager<>(dslContext, AccountBean.class);
+
+        final SeekPage<AccountBean> first = pager.fetchSeekPage(SeekPageRequest.of(4), Account.ACCOUNT, null, Account.ACCOUNT.id.desc());
+        assertThat(first.getElements()).extracting(AccountBean::getId).containsExactly(10, 9, 8, 7);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.getNextPageRequest().getSeekValues()).containsExactly(7);
+
+        // 次のページのページ付けの情報はそのまま次の検索に使用できる
+        final SeekPage<AccountBean> second = pager.fetchSeekPage(first.getNextPageRequest(), Account.ACCOUNT, null, Account.ACCOUNT.id.desc());
+        assertThat(second.getElements()).extracting(AccountBean::getId).containsExactly(6, 5, 4, 3);
+
+        final SeekPage<AccountBean> last = pager.fetchSeekPage(second.getNextPageRequest(), Account.ACCOUNT, null, Account.ACCOUNT.id.desc());
+        assertThat(last.getElements()).extracting(AccountBean::getId).containsExactly(2, 1);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.getTotalElements()).isEqualTo(TOTAL_ELEMENTS);
+        assertThat(last.isTotalExact()).isTrue();
+        assertThat(last.getPreviousPageRequest()).isSameAs(second.getPageRequest());
+    }
+
+    /**
+     * 実行した SQL を記録し、固定の検索結果を返す 1 つのコネクションを共有する DSL コンテキストを生成します。
+     *
+     * @param dialect       SQL の方言
+     * @param executedSql   実行した SQL を記録するリスト
+     * @param totalElements 要素の総数
+     * @param ids           ページに含まれるレコードの ID
+     * @return DSL コンテキスト
+     */
+    private static DSLContext createMockDslContext(final SQLDialect dialect,
+                                                   final List<String> executedSql,
+                                                   final int totalElements,
+                                                   final List<Integer> ids) {
+        return DSL.using(new MockConnection(createMockDataProvider(dialect, executedSql, totalElements, ids)), dialect);
+    }
+
+    /**
+     * クエリごとに別々のコネクションを取得する DSL コンテキストを生成します。
+     *
+     * @param provider 検索結果を返すデータプロバイダ
+     * @return DSL コンテキスト
+     */
+    private static DSLContext createPooledDslContext(final MockDataProvider provider) {
+        final ConnectionProvider connectionProvider = new ConnectionProvider() {
+            @Override
+            public Connection acquire() {
+                return new MockConnection(provider);
+            }
+
+            @Override
+            public void release(final Connection connection) {
+                // 何もしない
+            }
+        };
+
+        return DSL.using(connectionProvider, SQLDialect.H2);
+    }
+
+    /**
+     * 実行した SQL を記録し、固定の検索結果を返すデータプロバイダを生成します。<br />
+     * 要素の総数を数えるクエリには指定した要素の総数を、ページの要素を検索するクエリには指定した ID のレコードを返します。
+     *
+     * @param dialect       SQL の方言
+     * @param executedSql   実行した SQL を記録するリスト
+     * @param totalElements 要素の総数
+     * @param ids           ページに含まれるレコードの ID
+     * @return データプロバイダ
+     */
+    private static MockDataProvider createMockDataProvider(final SQLDialect dialect,
+                                                           final List<String> executedSql,
+                                                           final int totalElements,
+                                                           final List<Integer> ids) {
+        final DSLContext create = DSL.using(dialect);
+
+        return context -> {
+            final String sql = context.sql();
+            executedSql.add(sql);
+
+            if (sql.contains(TOTAL_COUNT_FIELD_NAME)) {
+                final Field<?>[] fields = Stream.concat(Stream.of(Account.ACCOUNT.fields()),
+                                                        Stream.of(DSL.field(DSL.name(TOTAL_COUNT_FIELD_NAME), Integer.class)))
+                        .toArray(Field<?>[]::new);
+
+                final Result<Record> result = create.newResult(fields);
+
+                ids.forEach(id -> {
+                    final Record record = create.newRecord(fields);
+                    record.fromArray(id, "user" + id, totalElements);
+                    result.add(record);
+                });
+
+                return new MockResult[] { new MockResult(result.size(), result) };
+            }
+
+            if (sql.contains("count(")) {
+                final Result<Record1<Integer>> result = create.newResult(DSL.count());
+                result.add(create.newRecord(DSL.count()).values(totalElements));
+
+                return new MockResult[] { new MockResult(1, result) };
+            }
+
+            final Result<AccountRecord> result = create.newResult(Account.ACCOUNT);
+
+            ids.forEach(id -> {
+                final AccountRecord record = create.newRecord(Account.ACCOUNT);
+                record.set(Account.ACCOUNT.id, id);
+                record.set(Account.ACCOUNT.name, "user" + id);
+                result.add(record);
+            });
+
+            return new MockResult[] { new MockResult(result.size(), result) };
+        };
+    }
+
+    /**
+     * テスト用のテーブルです。
+     *
+     * @author hamana
+     */
+    private static final class Account extends TableImpl<AccountRecord> {
+        /**
+         * テーブルのインスタンスです。
+         */
+        private static final Account ACCOUNT = new Account();
+
+        /**
+         * ID です。
+         */
+        private final TableField<AccountRecord, Integer> id = createField(DSL.name("id"), SQLDataType.INTEGER, this, "");
+
+        /**
+         * 名前です。
+         */
+        private final TableField<AccountRecord, String> name = createField(DSL.name("name"), SQLDataType.VARCHAR(20), this, "");
+
+        private Account() {
+            super(DSL.name("account"));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Class<AccountRecord> getRecordType() {
+            return AccountRecord.class;
+        }
+    }
+
+    /**
+     * テスト用のテーブルのレコードです。
+     *
+     * @author hamana
+     */
+    public static final class AccountRecord extends TableRecordImpl<AccountRecord> {
+        public AccountRecord() {
+            super(Account.ACCOUNT);
+        }
+    }
+
+    /**
+     * ページに含まれるレコードです。
+     *
+     * @author hamana
+     */
+    @Data
+    public static final class AccountBean {
+        /**
+         * ID です。
+         */
+        private Integer id;
+
+        /**
+         * 名前です。
+         */
+        private String name;
+
+        /**
+         * 要素の総数です。<br />
+         * ウィンドウ関数で数えた要素の総数のフィールドがマッピングされないことを確認するためのプロパティです。
+         */
+        private Integer pagerTotalCount;
+    }
+}
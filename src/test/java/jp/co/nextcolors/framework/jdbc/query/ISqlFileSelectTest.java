@@ -15,20 +15,38 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
 import org.jooq.Table;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import lombok.Getter;
+import lombok.Setter;
+
 /**
  * {@link ISqlFileSelect} のテストです。
  *
@@ -45,6 +63,22 @@ class ISqlFileSelectTest {
     @Mock
     private Table<? extends Record> table;
 
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private Cursor<Record> cursor;
+
+    /**
+     * {@link ISqlFileSelect#setFetchSize(int)} のテストです。
+     */
+    @Test
+    void testSetFetchSize() {
+        assertThat(sqlFileSelect.setFetchSize(100)).isSameAs(sqlFileSelect);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sqlFileSelect.setFetchSize(-1));
+    }
+
     /**
      * {@link ISqlFileSelect#fetchOne()} のテストです。
      */
@@ -66,7 +100,7 @@ class ISqlFileSelectTest {
         verify(query).fetchOneInto(table);
         reset(sqlFileSelect);
 
-        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchOneInto(null));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchOneInto((Table<Record>) null));
     }
 
     /**
@@ -90,6 +124,172 @@ class ISqlFileSelectTest {
         verify(query).fetchInto(table);
         reset(sqlFileSelect);
 
-        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchInto(null));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchInto((Table<Record>) null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchLazy()} のテストです。
+     */
+    @Test
+    void testFetchLazy() {
+        doReturn(query).when(sqlFileSelect).getQuery();
+        sqlFileSelect.fetchLazy();
+        verify(query).fetchLazy();
+        reset(sqlFileSelect);
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchStream()} のテストです。
+     */
+    @Test
+    void testFetchStream() {
+        doReturn(query).when(sqlFileSelect).getQuery();
+        sqlFileSelect.fetchStream();
+        verify(query).fetchStream();
+        reset(sqlFileSelect);
+    }
+
+    /**
+     * {@link ISqlFileSelect#forEach(Consumer)} のテストです。
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    void testForEach() {
+        final Cursor<Record> cursor = mock(Cursor.class);
+        final Consumer<Record> handler = mock(Consumer.class);
+
+        doReturn(cursor).when(sqlFileSelect).fetchLazy();
+        sqlFileSelect.forEach(handler);
+        verify(cursor).forEach(handler);
+        verify(cursor).close();
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.forEach(null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchOneInto(Class)} のテストです。
+     */
+    @Test
+    void testFetchOneIntoBean() {
+        doReturn(query).when(sqlFileSelect).getQuery();
+        when(query.configuration()).thenReturn(configuration);
+        when(query.fetchOne()).thenReturn(createRecord("foo"));
+        assertThat(sqlFileSelect.fetchOneInto(Foo.class).getBar()).isEqualTo("foo");
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchOneInto((Class<Foo>) null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchInto(Class)} のテストです。
+     */
+    @Test
+    void testFetchIntoBean() {
+        doReturn(query).when(sqlFileSelect).getQuery();
+        when(query.configuration()).thenReturn(configuration);
+        when(query.fetchLazy()).thenReturn(cursor);
+        when(cursor.stream()).thenReturn(Stream.of(createRecord("foo"), createRecord("bar")));
+        assertThat(sqlFileSelect.fetchInto(Foo.class)).extracting(Foo::getBar).containsExactly("foo", "bar");
+        verify(cursor).close();
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchInto((Class<Foo>) null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchStreamInto(Class)} のテストです。
+     */
+    @Test
+    void testFetchStreamInto() {
+        doReturn(query).when(sqlFileSelect).getQuery();
+        when(query.configuration()).thenReturn(configuration);
+        when(query.fetchStream()).thenReturn(Stream.of(createRecord("foo"), createRecord("bar")));
+
+        try (final Stream<Foo> beans = sqlFileSelect.fetchStreamInto(Foo.class)) {
+            assertThat(beans).extracting(Foo::getBar).containsExactly("foo", "bar");
+        }
+
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchStreamInto(null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchAsync()} と {@link ISqlFileSelect#fetchAsync(Executor)} のテストです。
+     */
+    @Test
+    void testFetchAsync() {
+        final Executor executor = Runnable::run;
+
+        doReturn(query).when(sqlFileSelect).getQuery();
+        sqlFileSelect.fetchAsync();
+        verify(query).fetchAsync();
+        sqlFileSelect.fetchAsync(executor);
+        verify(query).fetchAsync(executor);
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchAsync(null));
+    }
+
+    /**
+     * {@link ISqlFileSelect#fetchIntoAsync(Class)} と {@link ISqlFileSelect#fetchIntoAsync(Class, Executor)} のテストです。
+     */
+    @Test
+    void testFetchIntoAsync() {
+        final Executor executor = Runnable::run;
+
+        doReturn(query).when(sqlFileSelect).getQuery();
+        when(query.configuration()).thenReturn(configuration);
+        when(query.fetchAsync()).thenReturn(CompletableFuture.completedFuture(createResult("foo", "bar")));
+        assertThat(sqlFileSelect.fetchIntoAsync(Foo.class).toCompletableFuture().join())
+                .extracting(Foo::getBar).containsExactly("foo", "bar");
+        when(query.fetchAsync(executor)).thenReturn(CompletableFuture.completedFuture(createResult("baz")));
+        assertThat(sqlFileSelect.fetchIntoAsync(Foo.class, executor).toCompletableFuture().join())
+                .extracting(Foo::getBar).containsExactly("baz");
+        reset(sqlFileSelect);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchIntoAsync(null));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchIntoAsync(null, executor));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileSelect.fetchIntoAsync(Foo.class, null));
+    }
+
+    /**
+     * レコードを生成します。
+     *
+     * @param bar bar の値
+     * @return レコード
+     */
+    private static Record createRecord(final String bar) {
+        final Field<String> field = DSL.field(DSL.name("bar"), String.class);
+
+        final Record record = DSL.using(SQLDialect.DEFAULT).newRecord(field);
+        record.set(field, bar);
+
+        return record;
+    }
+
+    /**
+     * 検索結果を生成します。
+     *
+     * @param bars bar の値
+     * @return 検索結果
+     */
+    private static Result<Record> createResult(final String... bars) {
+        final Field<String> field = DSL.field(DSL.name("bar"), String.class);
+
+        final Result<Record> result = DSL.using(SQLDialect.DEFAULT).newResult(new Field<?>[] { field });
+
+        for (final String bar : bars) {
+            result.add(createRecord(bar));
+        }
+
+        return result;
+    }
+
+    @Getter
+    @Setter
+    public static class Foo {
+        private String bar;
     }
 }
@@ -15,10 +15,18 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
 import org.jooq.Query;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,4 +57,61 @@ class ISqlFileWriteTest {
         verify(query).execute();
         reset(sqlFileWrite);
     }
+
+    /**
+     * {@link ISqlFileWrite#executeAsync()} と {@link ISqlFileWrite#executeAsync(Executor)} のテストです。
+     */
+    @Test
+    void testExecuteAsync() {
+        final Executor executor = Runnable::run;
+
+        doReturn(query).when(sqlFileWrite).getQuery();
+        sqlFileWrite.executeAsync();
+        verify(query).executeAsync();
+        sqlFileWrite.executeAsync(executor);
+        verify(query).executeAsync(executor);
+        reset(sqlFileWrite);
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileWrite.executeAsync(null));
+    }
+
+    /**
+     * {@link ISqlFileWrite#executeBatch(Iterable)} のテストです。
+     */
+    @Test
+    void testExecuteBatch() {
+        final List<Map<String, Object>> batchParams = List.of(Map.of("id", 1));
+
+        doReturn(new int[] { 1 }).when(sqlFileWrite).executeBatch(batchParams, ISqlFileWrite.DEFAULT_BATCH_SIZE);
+        assertThat(sqlFileWrite.executeBatch(batchParams)).containsExactly(1);
+        reset(sqlFileWrite);
+    }
+
+    /**
+     * {@link ISqlFileWrite#executeBatch(Iterable, int)} のテストです。
+     */
+    @Test
+    void testExecuteBatchWithBatchSize() {
+        final Map<String, Object> first = Map.of("id", 1);
+        final Map<String, Object> second = Map.of("id", 2);
+
+        doReturn(sqlFileWrite).when(sqlFileWrite).addParameters(anyMap());
+        doReturn(1, 0).when(sqlFileWrite).execute();
+        assertThat(sqlFileWrite.executeBatch(List.of(first, second), 1)).containsExactly(1, 0);
+        verify(sqlFileWrite).addParameters(first);
+        verify(sqlFileWrite).addParameters(second);
+        reset(sqlFileWrite);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sqlFileWrite.executeBatch(List.of(first), 0));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileWrite.executeBatch(null, 1));
+    }
+
+    /**
+     * {@link ISqlFileWrite#setKeepStatement(boolean)} と {@link ISqlFileWrite#close()} のテストです。
+     */
+    @Test
+    void testSetKeepStatement() {
+        assertThat(sqlFileWrite.setKeepStatement(true)).isSameAs(sqlFileWrite);
+        sqlFileWrite.close();
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+/**
+ * {@link InListBindingPolicy} のテストです。
+ *
+ * @author hamana
+ */
+class InListBindingPolicyTest {
+    /**
+     * {@link InListBindingPolicy#expand()} のテストです。
+     */
+    @Test
+    void testExpand() {
+        final InListBindingPolicy policy = InListBindingPolicy.expand();
+
+        assertThat(policy.selectStrategy(SQLDialect.POSTGRES, Integer.MAX_VALUE - 1)).isEqualTo(InListStrategy.EXPAND);
+        assertThat(policy.selectStrategy(null, 0)).isEqualTo(InListStrategy.EXPAND);
+    }
+
+    /**
+     * {@link InListBindingPolicy#of(InListStrategy, int)} のテストです。
+     */
+    @Test
+    void testOf() {
+        final InListBindingPolicy policy = InListBindingPolicy.of(InListStrategy.PADDING, 10);
+
+        assertThat(policy.selectStrategy(SQLDialect.MYSQL, 9)).isEqualTo(InListStrategy.EXPAND);
+        assertThat(policy.selectStrategy(SQLDialect.MYSQL, 10)).isEqualTo(InListStrategy.PADDING);
+        assertThat(policy.selectStrategy(null, 10)).isEqualTo(InListStrategy.PADDING);
+
+        assertThatNullPointerException().isThrownBy(() -> InListBindingPolicy.of(null, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> InListBindingPolicy.of(InListStrategy.PADDING, -1));
+    }
+
+    /**
+     * {@link InListBindingPolicy#withDialectStrategy(SQLDialect, InListStrategy)} のテストです。
+     */
+    @Test
+    void testWithDialectStrategy() {
+        final InListBindingPolicy policy = InListBindingPolicy.of(InListStrategy.PADDING, 10)
+                .withDialectStrategy(SQLDialect.POSTGRES, InListStrategy.ARRAY)
+                .withDialectStrategy(SQLDialect.H2, InListStrategy.ARRAY);
+
+        assertThat(policy.selectStrategy(SQLDialect.POSTGRES, 10)).isEqualTo(InListStrategy.ARRAY);
+        assertThat(policy.selectStrategy(SQLDialect.H2, 10)).isEqualTo(InListStrategy.ARRAY);
+        assertThat(policy.selectStrategy(SQLDialect.POSTGRES, 9)).isEqualTo(InListStrategy.EXPAND);
+        assertThat(policy.selectStrategy(SQLDialect.MYSQL, 10)).isEqualTo(InListStrategy.PADDING);
+
+        assertThatNullPointerException().isThrownBy(() -> policy.withDialectStrategy(null, InListStrategy.ARRAY));
+        assertThatNullPointerException().isThrownBy(() -> policy.withDialectStrategy(SQLDialect.POSTGRES, null));
+    }
+
+    /**
+     * {@link InListBindingPolicy#setDefault(InListBindingPolicy)} のテストです。
+     */
+    @Test
+    @ResourceLock("jp.co.nextcolors.framework.jdbc.query.InListBindingPolicy.default")
+    void testSetDefault() {
+        assertThat(InListBindingPolicy.getDefault()).isEqualTo(InListBindingPolicy.expand());
+
+        final InListBindingPolicy policy = InListBindingPolicy.of(InListStrategy.PADDING, 10);
+
+        try {
+            InListBindingPolicy.setDefault(policy);
+            assertThat(InListBindingPolicy.getDefault()).isSameAs(policy);
+        } finally {
+            InListBindingPolicy.setDefault(InListBindingPolicy.expand());
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> InListBindingPolicy.setDefault(null));
+    }
+}
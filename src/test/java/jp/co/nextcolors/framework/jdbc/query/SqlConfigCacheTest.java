@@ -0,0 +1,107 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.UroboroSQL.UroboroSQLBuilder;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+
+/**
+ * {@link SqlConfigCache} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlConfigCacheTest {
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DSLContext dslContext;
+
+    @Mock
+    private Connection connection;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private DefaultDialect dialect;
+
+    /**
+     * {@link SqlConfigCache#getInstance()} のテストです。
+     */
+    @Test
+    void testGetInstance() {
+        assertThat(SqlConfigCache.getInstance()).isSameAs(SqlConfigCache.getInstance());
+    }
+
+    /**
+     * {@link SqlConfigCache#get(DSLContext)} のテストです。
+     *
+     * @throws SQLException SQL の例外が発生した場合
+     */
+    @Test
+    void testGet() throws SQLException {
+        final SqlConfigCache cache = new SqlConfigCache();
+
+        try (final MockedStatic<UroboroSQL> uroboroSQL = mockStatic(UroboroSQL.class, Answers.CALLS_REAL_METHODS)) {
+            final UroboroSQLBuilder builder = UroboroSQL.builder(connection).setDialect(dialect);
+
+            uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
+            when(dslContext.configuration().connectionProvider().acquire()).thenReturn(connection);
+
+            // SQL の方言ごとに一度だけコネクションを取得
+            when(dslContext.dialect()).thenReturn(SQLDialect.H2);
+            final SqlConfig sqlConfig = cache.get(dslContext);
+            assertThat(cache.get(dslContext)).isSameAs(sqlConfig);
+            verify(dslContext.configuration().connectionProvider(), times(1)).acquire();
+            verify(connection, times(1)).close();
+
+            // SQL の方言が DEFAULT の場合はキャッシュしない
+            when(dslContext.dialect()).thenReturn(SQLDialect.DEFAULT);
+            assertThat(cache.get(dslContext)).isNotSameAs(cache.get(dslContext));
+            verify(dslContext.configuration().connectionProvider(), times(3)).acquire();
+
+            cache.invalidateAll();
+            when(dslContext.dialect()).thenReturn(SQLDialect.H2);
+            assertThat(cache.get(dslContext)).isNotSameAs(sqlConfig);
+
+            cache.invalidateAll();
+            doThrow(SQLException.class).when(connection).close();
+            assertThatExceptionOfType(SQLException.class).isThrownBy(() -> cache.get(dslContext));
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> cache.get(null));
+    }
+}
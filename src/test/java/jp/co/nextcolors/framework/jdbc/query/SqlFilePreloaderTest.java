@@ -0,0 +1,136 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.UroboroSQL.UroboroSQLBuilder;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+
+import jp.co.nextcolors.framework.jdbc.query.source.ISqlFileSource;
+import jp.co.nextcolors.framework.jdbc.query.source.SqlFileRegistry;
+
+/**
+ * {@link SqlFilePreloader} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlFilePreloaderTest {
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DSLContext dslContext;
+
+    @Mock
+    private Connection connection;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private DefaultDialect dialect;
+
+    private SqlTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE);
+
+        when(dslContext.dialect()).thenReturn(SQLDialect.DEFAULT);
+        when(dslContext.configuration().connectionProvider().acquire()).thenReturn(connection);
+    }
+
+    /**
+     * {@link SqlFilePreloader#preload(Path)} のテストです。
+     *
+     * @param directory 一時ディレクトリ
+     * @throws Exception 例外が発生した場合
+     */
+    @Test
+    void testPreload(@TempDir final Path directory) throws Exception {
+        final Path foo = Files.writeString(directory.resolve("foo.sql"), "SELECT * FROM foo WHERE id = /*id*/0");
+        final Path bar = Files.writeString(Files.createDirectory(directory.resolve("bar")).resolve("bar.sql"), "SELECT * FROM bar");
+        final Path baz = Files.writeString(directory.resolve("baz.sql"), "SELECT * FROM baz /* baz");
+        Files.writeString(directory.resolve("qux.txt"), "SELECT * FROM qux");
+
+        try (final MockedStatic<UroboroSQL> uroboroSQL = mockStatic(UroboroSQL.class, Answers.CALLS_REAL_METHODS)) {
+            final UroboroSQLBuilder builder = UroboroSQL.builder(connection).setDialect(dialect);
+
+            uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
+
+            // 解析に失敗した SQL ファイルをログに出力して続行
+            final SqlFilePreloader.Report report = new SqlFilePreloader(dslContext, cache, SqlFilePreloader.FailureMode.LOG_AND_CONTINUE)
+                    .preload(directory);
+            assertThat(report.getLoadedSqlFilePaths()).containsExactlyInAnyOrder(foo, bar);
+            assertThat(report.getFailures()).containsOnlyKeys(baz);
+            assertThat(report.hasFailures()).isTrue();
+            assertThat(cache.size()).isEqualTo(2);
+
+            // 最初に解析に失敗した時点で例外をスロー
+            final SqlFilePreloader preloader = new SqlFilePreloader(dslContext, cache, SqlFilePreloader.FailureMode.FAIL_FAST);
+            assertThatIllegalStateException().isThrownBy(() -> preloader.preload(directory))
+                    .withMessageContaining(baz.toString());
+            assertThat(preloader.preload(List.of(foo, bar)).hasFailures()).isFalse();
+        }
+
+        final SqlFilePreloader preloader = new SqlFilePreloader(dslContext, cache, SqlFilePreloader.FailureMode.FAIL_FAST);
+        assertThatNullPointerException().isThrownBy(() -> preloader.preload((Path) null));
+        assertThatNullPointerException().isThrownBy(() -> preloader.preload((Collection<Path>) null));
+    }
+
+    /**
+     * {@link SqlFilePreloader#preloadRegistry()} のテストです。
+     */
+    @Test
+    void testPreloadRegistry() {
+        final Path foo = Path.of("sql", "foo.sql");
+        final ISqlFileSource source = () -> Map.of(foo, "SELECT * FROM foo");
+
+        cache.setRegistry(SqlFileRegistry.of(source));
+
+        try (final MockedStatic<UroboroSQL> uroboroSQL = mockStatic(UroboroSQL.class, Answers.CALLS_REAL_METHODS)) {
+            final UroboroSQLBuilder builder = UroboroSQL.builder(connection).setDialect(dialect);
+
+            uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
+
+            final SqlFilePreloader.Report report = new SqlFilePreloader(dslContext, cache, SqlFilePreloader.FailureMode.FAIL_FAST)
+                    .preloadRegistry();
+            assertThat(report.getLoadedSqlFilePaths()).containsExactly(foo);
+            assertThat(report.hasFailures()).isFalse();
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+}
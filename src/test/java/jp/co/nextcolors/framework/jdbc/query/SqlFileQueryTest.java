@@ -27,8 +27,11 @@ import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -36,13 +39,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import org.jooq.DSLContext;
 import org.jooq.Query;
+import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -99,6 +108,7 @@ class SqlFileQueryTest {
      * {@link SqlFileQuery#createBindParameters()} のテストです。
      */
     @Test
+    @ResourceLock(value = "jp.co.nextcolors.framework.jdbc.query.InListBindingPolicy.default", mode = ResourceAccessMode.READ)
     void testCreateBindParameters() {
         try (final MockedStatic<DSL> dsl = mockStatic(DSL.class)) {
             assertThat(sqlFileQuery.createBindParameters()).isEmpty();
@@ -113,9 +123,49 @@ class SqlFileQueryTest {
             assertThat(sqlFileQuery.createBindParameters()).hasSameSizeAs(params);
             dsl.verify(() -> DSL.list(anyCollection()));
             dsl.clearInvocations();
+
+            // IN 句に変換するパラメータがない場合はコピーしない
+            final Map<String, Object> scalarParams = Map.of(strings().get(), ints().get());
+
+            sqlFileQuery.setParameters(scalarParams);
+            assertThat(sqlFileQuery.createBindParameters()).isEqualTo(scalarParams);
+            dsl.verifyNoInteractions();
         }
     }
 
+    /**
+     * {@link SqlFileQuery#createInList(Collection)} のテストです。
+     */
+    @Test
+    @ResourceLock("jp.co.nextcolors.framework.jdbc.query.InListBindingPolicy.default")
+    void testCreateInList() {
+        final DSLContext renderer = DSL.using(SQLDialect.POSTGRES);
+        final List<Integer> values = List.of(1, 2, 3);
+
+        try {
+            when(dslContext.dialect()).thenReturn(SQLDialect.POSTGRES);
+
+            // デフォルトは要素ごとに展開
+            assertThat(renderer.render(sqlFileQuery.createInList(values))).isEqualTo("?, ?, ?");
+
+            // 2 のべき乗に切り上げ
+            InListBindingPolicy.setDefault(InListBindingPolicy.of(InListStrategy.PADDING, 3));
+            assertThat(renderer.render(sqlFileQuery.createInList(values))).isEqualTo("?, ?, ?, ?");
+            assertThat(renderer.extractBindValues(sqlFileQuery.createInList(values))).containsExactly(1, 2, 3, 3);
+            assertThat(renderer.render(sqlFileQuery.createInList(List.of(1, 2)))).isEqualTo("?, ?");
+
+            // 配列
+            InListBindingPolicy.setDefault(InListBindingPolicy.of(InListStrategy.EXPAND, 3)
+                    .withDialectStrategy(SQLDialect.POSTGRES, InListStrategy.ARRAY));
+            assertThat(renderer.render(sqlFileQuery.createInList(values))).contains("unnest");
+            assertThat(renderer.render(sqlFileQuery.createInList(List.of(1, 2L, 3)))).isEqualTo("?, ?, ?");
+        } finally {
+            InListBindingPolicy.setDefault(InListBindingPolicy.expand());
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileQuery.createInList(null));
+    }
+
     /**
      * {@link SqlFileQuery#createExecutionContext()} のテストです。
      */
@@ -142,6 +192,8 @@ class SqlFileQueryTest {
                     .setDialect(dialect)
                     .setExpressionParser(expressionParser);
 
+            // SQL の方言が DEFAULT の場合は SQL の設定をキャッシュしない
+            when(dslContext.dialect()).thenReturn(SQLDialect.DEFAULT);
             files.when(() -> Files.readString(sqlFilePath)).thenReturn(sql);
             uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
             sqlFileQuery.setParameters(params);
@@ -151,9 +203,19 @@ class SqlFileQueryTest {
             files.reset();
             uroboroSQL.reset();
 
+            // キャッシュ済みのテンプレートは SQL ファイルを読み込まない
+            files.when(() -> Files.readString(sqlFilePath)).thenThrow(IOException.class);
+            uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
+            assertThat(sqlFileQuery.createExecutionContext().getExecutableSql()).isEqualTo(executionContext.getExecutableSql());
+            files.reset();
+            uroboroSQL.reset();
+
+            SqlTemplateCache.getInstance().invalidate(sqlFilePath);
             files.when(() -> Files.readString(sqlFilePath)).thenThrow(IOException.class);
+            uroboroSQL.when(() -> UroboroSQL.builder(any(Connection.class))).thenReturn(builder);
             assertThatIOException().isThrownBy(() -> sqlFileQuery.createExecutionContext());
             files.reset();
+            uroboroSQL.reset();
 
             files.when(() -> Files.readString(sqlFilePath)).thenReturn(sql);
             uroboroSQL.when(() -> UroboroSQL.builder(connection)).thenReturn(builder);
@@ -167,6 +229,97 @@ class SqlFileQueryTest {
         }
     }
 
+    /**
+     * {@link SqlFileQuery#createQuery(ExecutionContext, BiFunction)} のテストです。
+     */
+    @Test
+    void testCreateQuery() {
+        final ExecutionContext executionContext = mock(ExecutionContext.class);
+        final BiFunction<String, Object[], Query> queryFactory = (sql, bindVariables) -> mock(Query.class);
+        final SqlStatementStatistics statistics = SqlStatementStatistics.getInstance();
+
+        when(executionContext.getExecutableSql()).thenReturn("SELECT * FROM foo WHERE id = ?");
+        when(executionContext.getBindVariables()).thenReturn(new Object[] { 1 });
+
+        // ステートメントを保持しない場合は毎回生成
+        final long preparedCount = statistics.getPreparedCount();
+        assertThat(sqlFileQuery.createQuery(executionContext, queryFactory))
+                .isNotSameAs(sqlFileQuery.createQuery(executionContext, queryFactory));
+        assertThat(statistics.getPreparedCount()).isGreaterThanOrEqualTo(preparedCount + 2);
+
+        // SQL が同じ場合は保持しているクエリのバインド変数の値を置き換えて再利用
+        sqlFileQuery.setKeepStatement(true);
+        final Query query = sqlFileQuery.createQuery(executionContext, queryFactory);
+        verify(query).keepStatement(true);
+        when(executionContext.getBindVariables()).thenReturn(new Object[] { 2 });
+        final long reusedCount = statistics.getReusedCount();
+        assertThat(sqlFileQuery.createQuery(executionContext, queryFactory)).isSameAs(query);
+        verify(query).bind(1, 2);
+        assertThat(statistics.getReusedCount()).isGreaterThanOrEqualTo(reusedCount + 1);
+
+        // SQL が変わった場合は保持しているクエリをクローズして生成
+        when(executionContext.getExecutableSql()).thenReturn("SELECT * FROM foo WHERE name = ?");
+        assertThat(sqlFileQuery.createQuery(executionContext, queryFactory)).isNotSameAs(query);
+        verify(query).close();
+
+        // IN 句のクエリ部品を含む場合は SQL に展開し、展開後の SQL が同じであれば再利用
+        final Object[] inList = { DSL.list(DSL.val(1), DSL.val(2)) };
+        final Query expandedQuery = mock(Query.class);
+        when(executionContext.getExecutableSql()).thenReturn("SELECT * FROM foo WHERE id IN ?");
+        when(executionContext.getBindVariables()).thenReturn(inList);
+        when(dslContext.query("SELECT * FROM foo WHERE id IN ?", inList)).thenReturn(expandedQuery);
+        when(expandedQuery.getSQL()).thenReturn("SELECT * FROM foo WHERE id IN (?, ?)");
+        when(expandedQuery.getBindValues()).thenReturn(List.of(1, 2));
+        final Query inListQuery = sqlFileQuery.createQuery(executionContext, queryFactory);
+        when(expandedQuery.getBindValues()).thenReturn(List.of(3, 4));
+        assertThat(sqlFileQuery.createQuery(executionContext, queryFactory)).isSameAs(inListQuery);
+        verify(inListQuery).bind(1, 3);
+        verify(inListQuery).bind(2, 4);
+
+        // 要素の数によって展開後の SQL が変わった場合は生成
+        when(expandedQuery.getSQL()).thenReturn("SELECT * FROM foo WHERE id IN (?, ?, ?)");
+        when(expandedQuery.getBindValues()).thenReturn(List.of(1, 2, 3));
+        assertThat(sqlFileQuery.createQuery(executionContext, queryFactory)).isNotSameAs(inListQuery);
+        verify(inListQuery).close();
+
+        sqlFileQuery.close();
+        sqlFileQuery.setKeepStatement(false);
+        assertThat(sqlFileQuery.isKeepStatement()).isFalse();
+
+        assertThatNullPointerException().isThrownBy(() -> sqlFileQuery.createQuery(null, queryFactory));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileQuery.createQuery(executionContext, null));
+    }
+
+    /**
+     * {@link SqlFileQuery#setKeepStatement(boolean)} と {@link SqlFileQuery#close()} のテストです。
+     */
+    @Test
+    void testSetKeepStatement() {
+        final ExecutionContext executionContext = mock(ExecutionContext.class);
+        final Query query = mock(Query.class);
+
+        when(executionContext.getExecutableSql()).thenReturn("SELECT * FROM foo WHERE id = ?");
+        when(executionContext.getBindVariables()).thenReturn(new Object[] { 1 });
+
+        // ステートメントを保持しない場合、クローズは何もしない
+        sqlFileQuery.createQuery(executionContext, (sql, bindVariables) -> query);
+        sqlFileQuery.close();
+        verify(query, never()).close();
+
+        // ステートメントを保持する場合、次の実行は前回のクエリのバインド変数の値をその場で置き換えるため、前回のクエリの完了後に実行する
+        sqlFileQuery.setKeepStatement(true);
+        final Query first = sqlFileQuery.createQuery(executionContext, (sql, bindVariables) -> query);
+        when(executionContext.getBindVariables()).thenReturn(new Object[] { 2 });
+        final Query second = sqlFileQuery.createQuery(executionContext, (sql, bindVariables) -> mock(Query.class));
+        assertThat(second).isSameAs(first);
+        verify(first).bind(1, 2);
+
+        // 保持をやめると保持しているステートメントをクローズ
+        sqlFileQuery.setKeepStatement(false);
+        verify(query).close();
+        assertThat(sqlFileQuery.isKeepStatement()).isFalse();
+    }
+
     /**
      * {@link SqlFileQuery#addParameter(String, Object)} のテストです。
      */
@@ -0,0 +1,60 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SqlFileReloadPolicy} のテストです。
+ *
+ * @author hamana
+ */
+class SqlFileReloadPolicyTest {
+    /**
+     * {@link SqlFileReloadPolicy#never()} のテストです。
+     */
+    @Test
+    void testNever() {
+        assertThat(SqlFileReloadPolicy.never().getMode()).isEqualTo(SqlFileReloadPolicy.Mode.NEVER);
+    }
+
+    /**
+     * {@link SqlFileReloadPolicy#interval(Duration)} のテストです。
+     */
+    @Test
+    void testInterval() {
+        final SqlFileReloadPolicy reloadPolicy = SqlFileReloadPolicy.interval(Duration.ofSeconds(5));
+        assertThat(reloadPolicy.getMode()).isEqualTo(SqlFileReloadPolicy.Mode.INTERVAL);
+        assertThat(reloadPolicy.getInterval()).isEqualTo(Duration.ofSeconds(5));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> SqlFileReloadPolicy.interval(Duration.ofSeconds(-1)));
+        assertThatNullPointerException().isThrownBy(() -> SqlFileReloadPolicy.interval(null));
+    }
+
+    /**
+     * {@link SqlFileReloadPolicy#watch()} のテストです。
+     */
+    @Test
+    void testWatch() {
+        assertThat(SqlFileReloadPolicy.watch().getMode()).isEqualTo(SqlFileReloadPolicy.Mode.WATCH);
+    }
+}
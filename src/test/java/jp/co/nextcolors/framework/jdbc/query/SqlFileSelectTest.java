@@ -15,17 +15,24 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
 import java.util.Map;
 
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -59,6 +66,9 @@ class SqlFileSelectTest {
     @Mock(answer = Answers.RETURNS_MOCKS)
     private ExecutionContext executionContext;
 
+    @Mock
+    private ResultQuery<Record> query;
+
     /**
      * {@link SqlFileSelect#SqlFileSelect(DSLContext, Path)} のテストです。
      */
@@ -73,8 +83,26 @@ class SqlFileSelectTest {
     @Test
     void testGetQuery() {
         doReturn(executionContext).when(sqlFileSelect).createExecutionContext();
+        when(dslContext.resultQuery(anyString(), any(Object[].class))).thenReturn(query);
         sqlFileSelect.getQuery();
         verify(dslContext).resultQuery(anyString(), any(Object[].class));
+        verify(query, never()).fetchSize(anyInt());
+
+        sqlFileSelect.setFetchSize(100);
+        sqlFileSelect.getQuery();
+        verify(query).fetchSize(100);
         reset(sqlFileSelect);
     }
+
+    /**
+     * {@link SqlFileSelect#setFetchSize(int)} のテストです。
+     */
+    @Test
+    void testSetFetchSize() {
+        assertThat(sqlFileSelect.getFetchSize()).isZero();
+        assertThat(sqlFileSelect.setFetchSize(100)).isSameAs(sqlFileSelect);
+        assertThat(sqlFileSelect.getFetchSize()).isEqualTo(100);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sqlFileSelect.setFetchSize(-1));
+    }
 }
@@ -15,17 +15,27 @@
  */
 package jp.co.nextcolors.framework.jdbc.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
+import org.jooq.BatchBindStep;
 import org.jooq.DSLContext;
+import org.jooq.Query;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
@@ -77,4 +87,72 @@ class SqlFileWriteTest {
         verify(dslContext).query(anyString(), any(Object[].class));
         reset(sqlFileWrite);
     }
+
+    /**
+     * {@link SqlFileWrite#executeBatch(Iterable, int)} のテストです。
+     */
+    @Test
+    void testExecuteBatch() {
+        final ExecutionContext foo = mock(ExecutionContext.class);
+        final ExecutionContext bar = mock(ExecutionContext.class);
+        final BatchBindStep batch = mock(BatchBindStep.class);
+
+        when(foo.getExecutableSql()).thenReturn("INSERT INTO foo VALUES (?)");
+        when(foo.getBindVariables()).thenReturn(new Object[] { 1 });
+        when(bar.getExecutableSql()).thenReturn("INSERT INTO bar VALUES (?)");
+        when(bar.getBindVariables()).thenReturn(new Object[] { 2 });
+        doReturn(foo).when(sqlFileWrite).createExecutionContext(Map.of("id", 1));
+        doReturn(bar).when(sqlFileWrite).createExecutionContext(Map.of("id", 2));
+        when(dslContext.batch((Query) any())).thenReturn(batch);
+        when(batch.bind(any(Object[].class))).thenReturn(batch);
+
+        // SQL が同じ連続した行はバッチサイズごとにまとめて実行
+        when(batch.execute()).thenReturn(new int[] { 1, 1 }, new int[] { 1 });
+        assertThat(sqlFileWrite.executeBatch(List.of(Map.of("id", 1), Map.of("id", 1), Map.of("id", 1)), 2))
+                .containsExactly(1, 1, 1);
+        verify(dslContext, times(2)).batch((Query) any());
+        verify(batch, times(3)).bind(any(Object[].class));
+        reset(dslContext);
+
+        // SQL が変わった場合は別のバッチとして実行
+        when(dslContext.batch((Query) any())).thenReturn(batch);
+        when(batch.execute()).thenReturn(new int[] { 1 }, new int[] { 0 }, new int[] { 1 });
+        assertThat(sqlFileWrite.executeBatch(List.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 1)), 2))
+                .containsExactly(1, 0, 1);
+        verify(dslContext, times(3)).batch((Query) any());
+        reset(dslContext);
+
+        assertThat(sqlFileWrite.executeBatch(List.of(), 2)).isEmpty();
+        verify(dslContext, never()).batch((Query) any());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sqlFileWrite.executeBatch(List.of(), 0));
+        assertThatNullPointerException().isThrownBy(() -> sqlFileWrite.executeBatch(null, 2));
+        reset(sqlFileWrite);
+    }
+
+    /**
+     * {@link SqlFileWrite#executeBatch(Iterable, int)} で行ごとのパラメータが次の行に残らないことのテストです。
+     */
+    @Test
+    void testExecuteBatchWithDifferentParameterNames() {
+        final ExecutionContext foo = mock(ExecutionContext.class);
+        final ExecutionContext bar = mock(ExecutionContext.class);
+        final BatchBindStep batch = mock(BatchBindStep.class);
+
+        when(foo.getExecutableSql()).thenReturn("INSERT INTO foo VALUES (?, ?)");
+        when(foo.getBindVariables()).thenReturn(new Object[] { 1, "foo" });
+        when(bar.getExecutableSql()).thenReturn("INSERT INTO foo VALUES (?, DEFAULT)");
+        when(bar.getBindVariables()).thenReturn(new Object[] { 2 });
+        doReturn(foo).when(sqlFileWrite).createExecutionContext(Map.of("id", 1, "name", "foo"));
+        doReturn(bar).when(sqlFileWrite).createExecutionContext(Map.of("id", 2));
+        when(dslContext.batch((Query) any())).thenReturn(batch);
+        when(batch.bind(any(Object[].class))).thenReturn(batch);
+        when(batch.execute()).thenReturn(new int[] { 1 }, new int[] { 1 });
+
+        // 前の行だけが指定したパラメータは、次の行には適用しない
+        assertThat(sqlFileWrite.executeBatch(List.of(Map.of("id", 1, "name", "foo"), Map.of("id", 2)), 2))
+                .containsExactly(1, 1);
+        verify(dslContext, times(2)).batch((Query) any());
+        reset(sqlFileWrite);
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SqlStatementStatistics} のテストです。
+ *
+ * @author hamana
+ */
+class SqlStatementStatisticsTest {
+    /**
+     * {@link SqlStatementStatistics#getInstance()} のテストです。
+     */
+    @Test
+    void testGetInstance() {
+        assertThat(SqlStatementStatistics.getInstance()).isSameAs(SqlStatementStatistics.getInstance());
+    }
+
+    /**
+     * {@link SqlStatementStatistics#getReuseRate()} のテストです。
+     */
+    @Test
+    void testGetReuseRate() {
+        final SqlStatementStatistics statistics = new SqlStatementStatistics();
+        assertThat(statistics.getReuseRate()).isZero();
+
+        statistics.recordPrepared();
+        statistics.recordReused();
+        statistics.recordReused();
+        statistics.recordReused();
+        assertThat(statistics.getPreparedCount()).isEqualTo(1);
+        assertThat(statistics.getReusedCount()).isEqualTo(3);
+        assertThat(statistics.getReuseRate()).isEqualTo(0.75);
+
+        statistics.reset();
+        assertThat(statistics.getPreparedCount()).isZero();
+        assertThat(statistics.getReusedCount()).isZero();
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+import jp.co.future.uroborosql.expr.ognl.OgnlExpressionParser;
+import jp.co.future.uroborosql.parser.ContextTransformer;
+
+import jp.co.nextcolors.framework.jdbc.query.source.ISqlFileSource;
+import jp.co.nextcolors.framework.jdbc.query.source.SqlFileRegistry;
+
+/**
+ * {@link SqlTemplateCache} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlTemplateCacheTest {
+    @Mock
+    private SqlConfig sqlConfig;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private DefaultDialect dialect;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private OgnlExpressionParser expressionParser;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sqlConfig.getDialect()).thenReturn(dialect);
+        lenient().when(sqlConfig.getExpressionParser()).thenReturn(expressionParser);
+    }
+
+    /**
+     * {@link SqlTemplateCache#SqlTemplateCache(int)} のテストです。
+     */
+    @Test
+    void testConstructor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SqlTemplateCache(0));
+    }
+
+    /**
+     * {@link SqlTemplateCache#getInstance()} のテストです。
+     */
+    @Test
+    void testGetInstance() {
+        assertThat(SqlTemplateCache.getInstance()).isSameAs(SqlTemplateCache.getInstance());
+    }
+
+    /**
+     * {@link SqlTemplateCache#get(Path, SqlConfig)} のテストです。
+     */
+    @Test
+    void testGet() {
+        final SqlTemplateCache cache = new SqlTemplateCache(2);
+
+        final Path foo = mock(Path.class);
+        final Path bar = mock(Path.class);
+        final Path baz = mock(Path.class);
+
+        try (final MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.readString(foo)).thenReturn("SELECT * FROM foo WHERE id = /*id*/0");
+            files.when(() -> Files.readString(bar)).thenReturn("SELECT * FROM bar");
+            files.when(() -> Files.readString(baz)).thenReturn("SELECT * FROM baz");
+
+            final ContextTransformer contextTransformer = cache.get(foo, sqlConfig);
+            assertThat(cache.get(foo, sqlConfig)).isSameAs(contextTransformer);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            files.verify(() -> Files.readString(foo));
+
+            // 上限を超えた場合は最も長い間使用されていないテンプレートを破棄
+            cache.get(bar, sqlConfig);
+            cache.get(foo, sqlConfig);
+            cache.get(baz, sqlConfig);
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.getEvictionCount()).isEqualTo(1);
+            assertThat(cache.get(foo, sqlConfig)).isSameAs(contextTransformer);
+            assertThat(cache.getMissCount()).isEqualTo(3);
+
+            files.when(() -> Files.readString(bar)).thenThrow(IOException.class);
+            assertThatIOException().isThrownBy(() -> cache.get(bar, sqlConfig));
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> cache.get(null, sqlConfig));
+        assertThatNullPointerException().isThrownBy(() -> cache.get(foo, null));
+    }
+
+    /**
+     * {@link SqlTemplateCache#setMaximumSize(int)} のテストです。
+     */
+    @Test
+    void testSetMaximumSize() {
+        final SqlTemplateCache cache = new SqlTemplateCache(2);
+
+        try (final MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.readString(any(Path.class))).thenReturn("SELECT 1");
+
+            cache.get(mock(Path.class), sqlConfig);
+            cache.get(mock(Path.class), sqlConfig);
+        }
+
+        cache.setMaximumSize(1);
+        assertThat(cache.getMaximumSize()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.setMaximumSize(0));
+    }
+
+    /**
+     * {@link SqlTemplateCache#invalidate(Path)} と {@link SqlTemplateCache#invalidateAll()} のテストです。
+     */
+    @Test
+    void testInvalidate() {
+        final SqlTemplateCache cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE);
+
+        final Path foo = mock(Path.class);
+        final Path bar = mock(Path.class);
+
+        try (final MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.readString(foo)).thenReturn("SELECT * FROM foo");
+            files.when(() -> Files.readString(bar)).thenReturn("SELECT * FROM bar");
+
+            final ContextTransformer contextTransformer = cache.get(foo, sqlConfig);
+            cache.get(bar, sqlConfig);
+
+            cache.invalidate(foo);
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get(foo, sqlConfig)).isNotSameAs(contextTransformer);
+
+            cache.invalidateAll();
+            assertThat(cache.size()).isZero();
+            assertThat(cache.getEvictionCount()).isZero();
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> cache.invalidate(null));
+    }
+
+    /**
+     * {@link SqlTemplateCache#setReloadPolicy(SqlFileReloadPolicy)} のテストです。
+     */
+    @Test
+    void testSetReloadPolicy() {
+        final SqlTemplateCache cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE);
+        assertThat(cache.getReloadPolicy()).isEqualTo(SqlFileReloadPolicy.never());
+
+        final Path foo = mock(Path.class);
+
+        try (final MockedStatic<Files> files = mockStatic(Files.class)) {
+            files.when(() -> Files.readString(foo)).thenReturn("SELECT * FROM foo");
+
+            // 変更を確認しない場合はファイルシステムにアクセスしない
+            final ContextTransformer contextTransformer = cache.get(foo, sqlConfig);
+            assertThat(cache.get(foo, sqlConfig)).isSameAs(contextTransformer);
+            files.verify(() -> Files.getLastModifiedTime(foo), never());
+
+            // 方針を変更するとすべてのテンプレートを破棄
+            cache.setReloadPolicy(SqlFileReloadPolicy.interval(Duration.ZERO));
+            assertThat(cache.size()).isZero();
+
+            files.when(() -> Files.getLastModifiedTime(foo)).thenReturn(FileTime.from(Instant.EPOCH));
+            final ContextTransformer intervalContextTransformer = cache.get(foo, sqlConfig);
+            assertThat(cache.get(foo, sqlConfig)).isSameAs(intervalContextTransformer);
+
+            // 更新日時が変わった場合は再読み込み
+            files.when(() -> Files.getLastModifiedTime(foo)).thenReturn(FileTime.from(Instant.now()));
+            assertThat(cache.get(foo, sqlConfig)).isNotSameAs(intervalContextTransformer);
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> cache.setReloadPolicy(null));
+    }
+
+    /**
+     * {@link SqlFileReloadPolicy#watch()} を設定した場合のテストです。
+     *
+     * @param directory 一時ディレクトリ
+     * @throws Exception 例外が発生した場合
+     */
+    @Test
+    void testWatch(@TempDir final Path directory) throws Exception {
+        final Path sqlFilePath = Files.writeString(directory.resolve("foo.sql"), "SELECT * FROM foo");
+
+        // 監視で SQL ファイルの変更を検知し、テンプレートを破棄したことを通知
+        final CountDownLatch invalidated = new CountDownLatch(1);
+
+        final SqlTemplateCache cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE) {
+            @Override
+            void invalidateIf(final Predicate<Path> filter) {
+                super.invalidateIf(filter);
+
+                if (filter.test(sqlFilePath)) {
+                    invalidated.countDown();
+                }
+            }
+        };
+        cache.setReloadPolicy(SqlFileReloadPolicy.watch());
+
+        cache.get(sqlFilePath, sqlConfig);
+        assertThat(cache.size()).isEqualTo(1);
+
+        Files.writeString(sqlFilePath, "SELECT * FROM bar");
+
+        assertThat(invalidated.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.size()).isZero();
+
+        cache.setReloadPolicy(SqlFileReloadPolicy.never());
+    }
+
+    /**
+     * SQL ファイルを読み込んでからキャッシュに格納するまでの間にテンプレートが破棄された場合のテストです。
+     */
+    @Test
+    void testGetInvalidatedWhileLoading() {
+        final Path foo = mock(Path.class);
+        final AtomicInteger parseCount = new AtomicInteger();
+
+        final SqlTemplateCache cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE) {
+            @Override
+            protected ContextTransformer parse(final Path sqlFilePath, final SqlConfig sqlConfig) {
+                // 最初の読み込みの直後に SQL ファイルの変更を検知
+                if (parseCount.getAndIncrement() == 0) {
+                    invalidate(sqlFilePath);
+                }
+
+                return mock(ContextTransformer.class);
+            }
+        };
+
+        // 変更前の SQL ファイルを読み込んだ可能性があるため、格納しない
+        cache.get(foo, sqlConfig);
+        assertThat(cache.size()).isZero();
+
+        cache.get(foo, sqlConfig);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(parseCount).hasValue(2);
+    }
+
+    /**
+     * {@link SqlTemplateCache#setRegistry(SqlFileRegistry)} のテストです。
+     */
+    @Test
+    void testSetRegistry() {
+        final SqlTemplateCache cache = new SqlTemplateCache(SqlTemplateCache.DEFAULT_MAXIMUM_SIZE);
+        assertThat(cache.getRegistry()).isEqualTo(SqlFileRegistry.empty());
+
+        final Path foo = Path.of("sql", "foo.sql");
+        final ISqlFileSource source = () -> Map.of(foo, "SELECT * FROM foo");
+
+        cache.setRegistry(SqlFileRegistry.of(source));
+        cache.setReloadPolicy(SqlFileReloadPolicy.interval(Duration.ZERO));
+
+        // レジストリの SQL ファイルはファイルシステムにアクセスしない
+        try (final MockedStatic<Files> files = mockStatic(Files.class)) {
+            final ContextTransformer contextTransformer = cache.get(foo, sqlConfig);
+            assertThat(cache.get(foo, sqlConfig)).isSameAs(contextTransformer);
+            files.verifyNoInteractions();
+        }
+
+        assertThatNullPointerException().isThrownBy(() -> cache.setRegistry(null));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ClasspathSqlFileSource} のテストです。
+ *
+ * @author hamana
+ */
+class ClasspathSqlFileSourceTest {
+    /**
+     * {@link ClasspathSqlFileSource#ClasspathSqlFileSource(String)} のテストです。
+     */
+    @Test
+    void testConstructor() {
+        assertThatNullPointerException().isThrownBy(() -> new ClasspathSqlFileSource(null));
+    }
+
+    /**
+     * {@link ClasspathSqlFileSource#load()} のテストです。
+     */
+    @Test
+    void testLoad() {
+        final Map<Path, String> sqlFiles = new ClasspathSqlFileSource("sql/source").load();
+        assertThat(sqlFiles).containsOnlyKeys(Path.of("sql", "source", "foo", "bar.sql"));
+        assertThat(sqlFiles.get(Path.of("sql", "source", "foo", "bar.sql"))).startsWith("SELECT * FROM foo");
+
+        assertThat(new ClasspathSqlFileSource("sql/none").load()).isEmpty();
+    }
+}
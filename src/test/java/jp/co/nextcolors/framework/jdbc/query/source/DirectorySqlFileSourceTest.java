@@ -0,0 +1,72 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link DirectorySqlFileSource} のテストです。
+ *
+ * @author hamana
+ */
+class DirectorySqlFileSourceTest {
+    /**
+     * {@link DirectorySqlFileSource#DirectorySqlFileSource(Path)} のテストです。
+     */
+    @Test
+    void testConstructor() {
+        assertThatNullPointerException().isThrownBy(() -> new DirectorySqlFileSource(null));
+    }
+
+    /**
+     * {@link DirectorySqlFileSource#load()} のテストです。
+     *
+     * @param directory 一時ディレクトリ
+     * @throws IOException 入出力エラーが発生した場合
+     */
+    @Test
+    void testLoad(@TempDir final Path directory) throws IOException {
+        Files.createDirectories(directory.resolve("sql"));
+        Files.writeString(directory.resolve(Path.of("sql", "foo.sql")), "SELECT * FROM foo");
+        Files.writeString(directory.resolve(Path.of("sql", "foo.txt")), "foo");
+
+        assertThat(new DirectorySqlFileSource(directory).load())
+                .containsExactlyEntriesOf(Map.of(Path.of("sql", "foo.sql"), "SELECT * FROM foo"));
+
+        // ZIP ファイルシステム
+        try (final FileSystem fileSystem = FileSystems.newFileSystem(directory.resolve("foo.jar"), Map.of("create", "true"))) {
+            Files.createDirectories(fileSystem.getPath("/sql"));
+            Files.writeString(fileSystem.getPath("/sql/bar.sql"), "SELECT * FROM bar");
+
+            assertThat(new DirectorySqlFileSource(fileSystem.getPath("/")).load())
+                    .containsExactlyEntriesOf(Map.of(Path.of("sql", "bar.sql"), "SELECT * FROM bar"));
+        }
+
+        assertThatIOException().isThrownBy(() -> new DirectorySqlFileSource(directory.resolve("none")).load());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (C) 2017 NEXT COLORS Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.nextcolors.framework.jdbc.query.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * {@link SqlFileRegistry} のテストです。
+ *
+ * @author hamana
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlFileRegistryTest {
+    @Mock
+    private ISqlFileSource foo;
+
+    @Mock
+    private ISqlFileSource bar;
+
+    /**
+     * {@link SqlFileRegistry#empty()} のテストです。
+     */
+    @Test
+    void testEmpty() {
+        assertThat(SqlFileRegistry.empty().size()).isZero();
+    }
+
+    /**
+     * {@link SqlFileRegistry#of(ISqlFileSource...)} のテストです。
+     */
+    @Test
+    void testOf() {
+        when(foo.load()).thenReturn(Map.of(Path.of("sql", "foo.sql"), "SELECT * FROM foo"));
+        when(bar.load()).thenReturn(Map.of(Path.of("sql", "bar.sql"), "SELECT * FROM bar"));
+
+        final SqlFileRegistry registry = SqlFileRegistry.of(foo, bar);
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getSqlFilePaths()).containsExactlyInAnyOrder(Path.of("sql", "foo.sql"), Path.of("sql", "bar.sql"));
+
+        // 重複した SQL ファイル
+        assertThatIllegalStateException().isThrownBy(() -> SqlFileRegistry.of(foo, foo));
+
+        assertThatNullPointerException().isThrownBy(() -> SqlFileRegistry.of((ISqlFileSource[]) null));
+        assertThatNullPointerException().isThrownBy(() -> SqlFileRegistry.of((List<ISqlFileSource>) null));
+    }
+
+    /**
+     * {@link SqlFileRegistry#find(Path)} と {@link SqlFileRegistry#contains(Path)} のテストです。
+     */
+    @Test
+    void testFind() {
+        when(foo.load()).thenReturn(Map.of(Path.of("sql", "foo.sql"), "SELECT * FROM foo"));
+
+        final SqlFileRegistry registry = SqlFileRegistry.of(foo);
+        assertThat(registry.find(Path.of("sql/foo.sql"))).contains("SELECT * FROM foo");
+        assertThat(registry.find(Path.of("sql", "bar.sql"))).isEmpty();
+        assertThat(registry.contains(Path.of("sql", "foo.sql"))).isTrue();
+        assertThat(registry.contains(Path.of("sql", "bar.sql"))).isFalse();
+
+        assertThatNullPointerException().isThrownBy(() -> registry.find(null));
+        assertThatNullPointerException().isThrownBy(() -> registry.contains(null));
+    }
+}
@@ -22,7 +22,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatReflectiveOperationException;
 
 import org.jooq.Configuration;
+import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.SQLDialect;
 import org.jooq.TableField;
 import org.jooq.impl.DSL;
 import org.jooq.impl.SQLDataType;
@@ -68,9 +70,67 @@ class BeanRecordMapperTest {
         // null
         assertThat(fooMapper.map(null)).isNull();
 
+        // 唯一のコンストラクタに位置で値を渡す
         final BeanRecordMapper<FooRecord, Bar> barMapper = new BeanRecordMapper<>(Bar.class, configuration);
 
-        assertThatReflectiveOperationException().isThrownBy(() -> barMapper.map(record));
+        final Bar bar = barMapper.map(record);
+        assertThat(bar.getBaz()).isEqualTo(record.getBaz());
+        assertThat(bar.getQux()).isEqualTo(record.getQux());
+        assertThat(bar.getQuux()).isEqualTo(record.getQuux());
+
+        // レコードクラスの標準コンストラクタに名前で値を渡す
+        final BeanRecordMapper<FooRecord, Baz> bazMapper = new BeanRecordMapper<>(Baz.class, configuration);
+
+        final Baz baz = bazMapper.map(record);
+        assertThat(baz.quux()).isEqualTo(record.getQuux());
+        assertThat(baz.baz()).isEqualTo(record.getBaz());
+        assertThat(baz.corge()).isZero();
+
+        // 引数のないコンストラクタがなく、コンストラクタが複数ある場合
+        final BeanRecordMapper<FooRecord, Qux> quxMapper = new BeanRecordMapper<>(Qux.class, configuration);
+
+        assertThatReflectiveOperationException().isThrownBy(() -> quxMapper.map(record));
+    }
+
+    /**
+     * レコードのフィールドが異なる場合の {@link BeanRecordMapper#map(Record)} のテストです。
+     */
+    @Test
+    void testMapWithDifferentFields() {
+        final Field<String> baz = DSL.field(DSL.name("baz"), String.class);
+        final Field<Integer> qux = DSL.field(DSL.name("qux"), Integer.class);
+        final Field<String> corge = DSL.field(DSL.name("corge"), String.class);
+
+        final BeanRecordMapper<Record, Foo> mapper = new BeanRecordMapper<>(Foo.class, configuration);
+
+        final Record bazQux = DSL.using(SQLDialect.DEFAULT).newRecord(baz, qux);
+        bazQux.set(baz, strings().get());
+        bazQux.set(qux, ints().get());
+
+        // 同じフィールドのレコードは同じ計画で変換
+        for (int i = 0; i < 2; i++) {
+            final Foo bean = mapper.map(bazQux);
+            assertThat(bean.getBaz()).isEqualTo(bazQux.get(baz));
+            assertThat(bean.getQux()).isEqualTo(bazQux.get(qux));
+        }
+
+        // フィールドの順序が異なる場合や、対応するプロパティが存在しないフィールドを含む場合
+        final Record quxCorgeBaz = DSL.using(SQLDialect.DEFAULT).newRecord(qux, corge, baz);
+        quxCorgeBaz.set(qux, ints().get());
+        quxCorgeBaz.set(corge, strings().get());
+        quxCorgeBaz.set(baz, strings().get());
+
+        final Foo bean = mapper.map(quxCorgeBaz);
+        assertThat(bean.getBaz()).isEqualTo(quxCorgeBaz.get(baz));
+        assertThat(bean.getQux()).isEqualTo(quxCorgeBaz.get(qux));
+        assertThat(bean.getQuux()).isNull();
+
+        // 列の型とプロパティの型が異なる場合は変換
+        final Field<String> quxString = DSL.field(DSL.name("qux"), String.class);
+        final Record quxRecord = DSL.using(SQLDialect.DEFAULT).newRecord(quxString);
+        quxRecord.set(quxString, "42");
+
+        assertThat(mapper.map(quxRecord).getQux()).isEqualTo(42);
     }
 
     @SuppressWarnings("serial")
@@ -139,4 +199,20 @@ class BeanRecordMapperTest {
         @Setter(AccessLevel.NONE)
         private Long quux;
     }
+
+    public record Baz(Long quux, String baz, int corge) {
+    }
+
+    @Getter
+    public static class Qux {
+        private final String baz;
+
+        public Qux(final String baz) {
+            this.baz = baz;
+        }
+
+        public Qux(final Integer qux) {
+            this.baz = String.valueOf(qux);
+        }
+    }
 }